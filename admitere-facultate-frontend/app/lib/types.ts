@@ -53,6 +53,31 @@ export type ProcesareAdmitereResult = {
   dosareProcesate: number;
   dosareAdmise: number;
   dosareNealocate: number;
+  incremental: boolean;
+  pozitiiReluate: number;
+  rulareId: number | null;
+};
+
+export type RulareAdmitere = {
+  id: number;
+  creatLa: string;
+  versiuneDate: number;
+  incremental: boolean;
+  dosareProcesate: number;
+  dosareAdmise: number;
+  dosareNealocate: number;
+};
+
+export type JobProcesare = {
+  id: string;
+  faza: string;
+  procesate: number;
+  total: number;
+  anulareCeruta: boolean;
+  pornit: string;
+  terminat: string | null;
+  rezultat: ProcesareAdmitereResult | null;
+  eroare: string | null;
 };
 
 export type RezultatAdmitere = {
@@ -81,3 +106,21 @@ export type RaportFacultate = {
   admisi: number;
   respinsi: number;
 };
+
+export type OcupareProgram = {
+  programId: number;
+  programNume: string;
+  facultateNume: string;
+  locuri: number;
+  ocupate: number;
+  locuriRamase: number;
+  medieUltimulAdmis: number | null;
+  pozitieUltimulAdmis: number | null;
+};
+
+export type ScenariuLocuri = {
+  nume: string | null;
+  dosareAdmise: number;
+  dosareNealocate: number;
+  programe: OcupareProgram[];
+};
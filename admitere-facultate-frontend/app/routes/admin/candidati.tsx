@@ -29,7 +29,7 @@ export default function CandidatiPage() {
   const [error, setError] = useState("");
 
   const buildQuery = (nextFilters: typeof emptyFilters) => {
-    const params = new URLSearchParams();
+    const params = new URLSearchParams({ toate: "true" });
     if (nextFilters.nume.trim()) {
       params.set("nume", nextFilters.nume.trim());
     }
@@ -39,8 +39,7 @@ export default function CandidatiPage() {
     if (nextFilters.email.trim()) {
       params.set("email", nextFilters.email.trim());
     }
-    const query = params.toString();
-    return query ? `?${query}` : "";
+    return `?${params.toString()}`;
   };
 
   const load = async (nextFilters: typeof emptyFilters = filters) => {
@@ -25,7 +25,7 @@ export default function DosarePage() {
   const load = async () => {
     setError("");
     try {
-      const data = await api<DosarView[]>("/api/admin/dosare");
+      const data = await api<DosarView[]>("/api/admin/dosare?toate=true");
       setItems(data);
     } catch (err) {
       setError(err instanceof Error ? err.message : "Nu pot incarca datele.");
@@ -19,7 +19,7 @@ export default function FacultatiPage() {
   const load = async () => {
     setError("");
     try {
-      const data = await api<Facultate[]>("/api/admin/facultati");
+      const data = await api<Facultate[]>("/api/admin/facultati?toate=true");
       setItems(data);
     } catch (err) {
       setError(err instanceof Error ? err.message : "Nu pot incarca datele.");
@@ -30,9 +30,9 @@ export default function OptiuniPage() {
     setError("");
     try {
       const [optiuniData, dosareData, candidatiData, programeData] = await Promise.all([
-        api<Optiune[]>("/api/admin/optiuni"),
-        api<DosarView[]>("/api/admin/dosare"),
-        api<Candidat[]>("/api/admin/candidati"),
+        api<Optiune[]>("/api/admin/optiuni?toate=true"),
+        api<DosarView[]>("/api/admin/dosare?toate=true"),
+        api<Candidat[]>("/api/admin/candidati?toate=true"),
         api<ProgramStudiuView[]>("/api/admin/programe-studiu"),
       ]);
       const candidatEmailById = candidatiData.reduce<Record<number, string>>(
@@ -72,8 +72,8 @@ export default function ProgrameStudiuPage() {
     try {
       const trimmed = query.trim();
       const url = trimmed
-        ? `/api/admin/facultati?q=${encodeURIComponent(trimmed)}`
-        : "/api/admin/facultati";
+        ? `/api/admin/facultati/sugestii?q=${encodeURIComponent(trimmed)}&limit=20`
+        : "/api/admin/facultati?toate=true";
       const data = await api<Facultate[]>(url);
       setFacultati(data);
     } catch (err) {
@@ -0,0 +1,191 @@
+package com.tudorverse.admitere_facultate_api;
+
+import com.tudorverse.admitere_facultate_api.dto.DosarClasat;
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.RulareAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.repository.CandidatRepository;
+import com.tudorverse.admitere_facultate_api.repository.ClasamentRepository;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.repository.RulareAdmitereRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.MetriciProcesare;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.ProcesareAdmitereService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Generatoare deterministe (cu seed) de programe, dosare si optiuni pentru benchmark-uri,
+ * plus un {@link ProcesareAdmitereService} care ruleaza pe aceste date fara baza de date.
+ */
+public final class DateSintetice {
+
+  public static final long SEED = 20250701L;
+
+  private static final OffsetDateTime START = OffsetDateTime.of(2025, 7, 1, 8, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  private final List<ProgramStudiuResponse> programe;
+  private final List<DosarClasat> dosare;
+
+  private DateSintetice(List<ProgramStudiuResponse> programe, List<DosarClasat> dosare) {
+    this.programe = programe;
+    this.dosare = dosare;
+  }
+
+  /**
+   * Genereaza {@code dimensiune} dosare validate cu 1-5 optiuni fiecare, repartizate pe
+   * 10 facultati cu cate 10 programe. Locurile totale acopera cam jumatate din dosare.
+   */
+  public static DateSintetice genereaza(int dimensiune) {
+    Random random = new Random(SEED);
+    int numarPrograme = 100;
+    int locuriPerProgram = Math.max(1, dimensiune / (2 * numarPrograme));
+    List<ProgramStudiuResponse> programe = new ArrayList<>(numarPrograme);
+    for (int i = 0; i < numarPrograme; i++) {
+      long facultateId = 1 + i / 10;
+      int buget = locuriPerProgram / 2 + random.nextInt(locuriPerProgram / 4 + 1);
+      programe.add(new ProgramStudiuResponse((long) i + 1, facultateId,
+          "Facultatea " + facultateId, "Program " + (i + 1), buget,
+          Math.max(0, locuriPerProgram - buget)));
+    }
+
+    List<DosarClasat> dosare = new ArrayList<>(dimensiune);
+    for (long id = 1; id <= dimensiune; id++) {
+      int numarOptiuni = 1 + random.nextInt(5);
+      long[] programIds = new long[numarOptiuni];
+      int[] prioritati = new int[numarOptiuni];
+      // Programele populare (id mic) sunt alese mai des, ca in realitate.
+      for (int k = 0; k < numarOptiuni; k++) {
+        long programId;
+        boolean duplicat;
+        do {
+          programId = 1 + (long) (numarPrograme * Math.pow(random.nextDouble(), 2));
+          duplicat = false;
+          for (int j = 0; j < k; j++) {
+            duplicat |= programIds[j] == programId;
+          }
+        } while (duplicat);
+        programIds[k] = programId;
+        prioritati[k] = k + 1;
+      }
+      BigDecimal medie = BigDecimal.valueOf(500 + random.nextInt(501), 2);
+      OffsetDateTime createdAt = START.plusSeconds(random.nextInt(30 * 24 * 3600));
+      dosare.add(new DosarClasat(id, id, "Nume" + id, "Prenume" + id, medie, createdAt,
+          programIds, prioritati));
+    }
+    dosare.sort(Comparator.comparing(DosarClasat::medie, Comparator.reverseOrder())
+        .thenComparing(DosarClasat::createdAt)
+        .thenComparing(DosarClasat::id));
+    return new DateSintetice(List.copyOf(programe), List.copyOf(dosare));
+  }
+
+  public List<ProgramStudiuResponse> programe() {
+    return programe;
+  }
+
+  /**
+   * Dosarele in ordinea clasamentului, ca in {@link ClasamentRepository}.
+   */
+  public List<DosarClasat> dosare() {
+    return dosare;
+  }
+
+  public ProgramStudiuRepository programStudiuRepository() {
+    return repository(ProgramStudiuRepository.class, (metoda, args) -> switch (metoda) {
+      case "findAllWithFacultate" -> programe;
+      default -> throw new UnsupportedOperationException(metoda);
+    });
+  }
+
+  /**
+   * Catalogul de referinta peste programele generate (fara facultati separate).
+   */
+  public CatalogReferinta catalogReferinta() {
+    return new CatalogReferinta(programStudiuRepository(),
+        repository(FacultateRepository.class, (metoda, args) -> switch (metoda) {
+          case "findAll" -> List.of();
+          default -> throw new UnsupportedOperationException(metoda);
+        }),
+        new SimpleMeterRegistry(), new FaraTranzactii());
+  }
+
+  /**
+   * Serviciu de procesare pe datele generate, cu o rulare completa deja publicata.
+   */
+  public ProcesareAdmitereService serviciuProcesat() {
+    ClasamentRepository clasamentRepository = new ClasamentRepository(null, 0) {
+      @Override
+      public void parcurgeDosareValidate(Consumer<DosarClasat> consumer) {
+        dosare.forEach(consumer);
+      }
+    };
+    RulareAdmitereRepository rulareAdmitereRepository = new RulareAdmitereRepository(null, 0, 0) {
+      @Override
+      public RulareAdmitereResponse salveaza(long versiuneDate, boolean incremental,
+          int admise, List<RezultatAdmitereResponse> rezultate) {
+        return new RulareAdmitereResponse(1L, OffsetDateTime.now(), versiuneDate, incremental,
+            rezultate.size(), admise, rezultate.size() - admise);
+      }
+
+      @Override
+      public int stergeVechi() {
+        return 0;
+      }
+    };
+    ProcesareAdmitereService service = new ProcesareAdmitereService(clasamentRepository,
+        catalogReferinta(),
+        repository(CandidatRepository.class, (metoda, args) -> {
+          throw new UnsupportedOperationException(metoda);
+        }),
+        new ModificariAdmitere(), rulareAdmitereRepository,
+        new MetriciProcesare(new SimpleMeterRegistry(), 1), new FaraTranzactii());
+    service.proceseazaAdmitere();
+    return service;
+  }
+
+  private interface Metoda {
+    Object invoca(String metoda, Object[] args);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T repository(Class<T> tip, Metoda metoda) {
+    return (T) Proxy.newProxyInstance(tip.getClassLoader(), new Class<?>[] {tip},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "toString" -> tip.getSimpleName() + " sintetic";
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          default -> metoda.invoca(method.getName(), args);
+        });
+  }
+
+  private static final class FaraTranzactii implements PlatformTransactionManager {
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+      return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.DateSintetice;
+import com.tudorverse.admitere_facultate_api.dto.RaportFacultateResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportInscrieriProgramResponse;
+import com.tudorverse.admitere_facultate_api.service.CacheRapoarte;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rapoartele servite din agregatele ultimei rulari si exporturile lor CSV si PDF.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RapoarteBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int dimensiune;
+
+  private RapoarteController controller;
+  private List<RaportInscrieriProgramResponse> raport;
+
+  @Setup
+  public void setup() {
+    DateSintetice date = DateSintetice.genereaza(dimensiune);
+    controller = new RapoarteController(date.serviciuProcesat(), new CacheRapoarte(0, 1, 1));
+    raport = controller.buildRaportInscrieriProgram(null, null);
+  }
+
+  @Benchmark
+  public List<RaportInscrieriProgramResponse> buildRaportInscrieriProgram() {
+    return controller.buildRaportInscrieriProgram(null, null);
+  }
+
+  @Benchmark
+  public List<RaportFacultateResponse> raportRezultateFacultati() {
+    return controller.raportRezultateFacultati(null, null);
+  }
+
+  @Benchmark
+  public void scrieCsv() throws IOException {
+    ScriitorCsv csv = new ScriitorCsv(OutputStream.nullOutputStream(), false);
+    controller.scrieCsv(raport, csv);
+    csv.termina();
+  }
+
+  @Benchmark
+  public byte[] toPdf() throws IOException {
+    return controller.toPdf(raport);
+  }
+}
@@ -0,0 +1,69 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.DateSintetice;
+import com.tudorverse.admitere_facultate_api.dto.DosarClasat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Nucleul de alocare si sortarea clasamentului (comparatorul vechi si cheile primitive).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlocareBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int dimensiune;
+
+  private StareAlocare stare;
+  private List<IntrareClasament> amestecate;
+
+  @Setup
+  public void setup() {
+    DateSintetice date = DateSintetice.genereaza(dimensiune);
+    List<IntrareClasament> clasament = new ArrayList<>(dimensiune);
+    for (DosarClasat dosar : date.dosare()) {
+      clasament.add(new IntrareClasament(dosar.id(), dosar.candidatId(), dosar.candidatNume(),
+          dosar.candidatPrenume(), dosar.medie(), dosar.createdAt(), dosar.programIds(),
+          dosar.prioritati()));
+    }
+    stare = new StareAlocare(clasament, date.programe());
+    amestecate = new ArrayList<>(clasament);
+    Collections.shuffle(amestecate, new Random(DateSintetice.SEED));
+  }
+
+  @Benchmark
+  public int alocareCompleta() {
+    return stare.realoca(0);
+  }
+
+  @Benchmark
+  public List<IntrareClasament> sortareCompareDosare() {
+    List<IntrareClasament> copie = new ArrayList<>(amestecate);
+    copie.sort(ProcesareAdmitereService::compareDosare);
+    return copie;
+  }
+
+  @Benchmark
+  public List<IntrareClasament> sortareCheiPrimitive() {
+    return CheiClasament.sorteaza(amestecate);
+  }
+}
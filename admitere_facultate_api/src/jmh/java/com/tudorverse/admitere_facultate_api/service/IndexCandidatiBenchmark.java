@@ -0,0 +1,89 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.DateSintetice;
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.repository.ParcurgereRepository;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cautarea candidatilor in indexul de trigrame: termeni selectivi, termeni frecventi si
+ * termeni scurti (verificati pe toti candidatii), cu prima pagina de 100 de rezultate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class IndexCandidatiBenchmark {
+
+  private static final String[] NUME = {"Popescu", "Ionescu", "Popa", "Pop", "Radu",
+      "Dumitru", "Stan", "Stoica", "Gheorghe", "Matei", "Ciobanu", "Rusu", "Mihai", "Constantin",
+      "Marin", "Ștefănescu", "Munteanu", "Florea", "Dinu", "Lungu", "Tudor", "Moldovan"};
+  private static final String[] PRENUME = {"Andrei", "Ioana", "Maria", "Alexandru", "Elena",
+      "Mihai", "Ana", "Ștefan", "Cristina", "Bogdan", "Irina", "Tudor", "Raluca", "Vlad",
+      "Gabriela", "Ion", "Teodora", "Răzvan", "Bianca", "Sorin"};
+
+  @Param({"100000", "1000000"})
+  public int dimensiune;
+
+  private IndexCandidati index;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(DateSintetice.SEED);
+    index = new IndexCandidati(new ParcurgereRepository(null, null, 0) {
+      @Override
+      public void parcurgeCandidati(Consumer<? super Candidat> consumer) {
+        for (long id = 1; id <= dimensiune; id++) {
+          Candidat candidat = new Candidat();
+          candidat.setId(id);
+          // Sufixul numeric face numele de familie aproape unice, ca in date reale.
+          candidat.setNume(NUME[random.nextInt(NUME.length)] + "-" + random.nextInt(5000));
+          candidat.setPrenume(PRENUME[random.nextInt(PRENUME.length)]);
+          candidat.setEmail("c" + id + "@example.com");
+          consumer.accept(candidat);
+        }
+      }
+    });
+    index.incarca();
+  }
+
+  @Benchmark
+  public long[] numeSelectiv() {
+    return index.cauta("stefanescu-42", null, null, 0, 101);
+  }
+
+  @Benchmark
+  public long[] numeSiPrenume() {
+    return index.cauta("popescu", "ioana", null, 0, 101);
+  }
+
+  @Benchmark
+  public long[] emailExact() {
+    return index.cauta(null, null, "c777777@example.com", 0, 101);
+  }
+
+  @Benchmark
+  public long[] termenFrecvent() {
+    return index.cauta("escu", null, null, 0, 101);
+  }
+
+  @Benchmark
+  public long[] termenScurt() {
+    return index.cauta("po", null, null, 0, 101);
+  }
+}
@@ -7,26 +7,40 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 /**
  * Filtru servlet care protejeaza rutele /api/admin folosind un cookie de sesiune HttpOnly.
+ * Protejeaza si endpoint-urile actuator (metrici, profilele rularilor), in afara de
+ * /actuator/health, folosit de probele de readiness.
  */
 @Component
 public class AdminAuthFilter extends OncePerRequestFilter {
 
   public static final String COOKIE_NAME = "admin_session";
 
+  private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
   private final AdminSessionService sessionService;
 
   public AdminAuthFilter(AdminSessionService sessionService) {
     this.sessionService = sessionService;
   }
 
-  // Protejeaza doar endpoint-urile admin CRUD prin validarea sesiunii.
+  // Protejeaza endpoint-urile admin CRUD si actuator-ul, mai putin health. Calea este
+  // decodata, fara parametri ";..." si cu segmentele ".." rezolvate, ca in rutarea cererii.
   @Override
   protected boolean shouldNotFilter(HttpServletRequest request) {
-    return !request.getRequestURI().startsWith("/api/admin");
+    String uri = StringUtils.cleanPath(URL_PATH_HELPER.getPathWithinApplication(request));
+    if (uri.startsWith("/api/admin")) {
+      return false;
+    }
+    if (uri.equals("/actuator/health") || uri.startsWith("/actuator/health/")) {
+      return true;
+    }
+    return !uri.equals("/actuator") && !uri.startsWith("/actuator/");
   }
 
   @Override
@@ -4,13 +4,13 @@ import com.tudorverse.admitere_facultate_api.dto.AdminLoginRequest;
 import com.tudorverse.admitere_facultate_api.dto.AdminResponse;
 import com.tudorverse.admitere_facultate_api.model.Admin;
 import com.tudorverse.admitere_facultate_api.repository.AdminRepository;
+import com.tudorverse.admitere_facultate_api.service.HashParole;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -28,13 +28,13 @@ public class AuthController {
 
   private final AdminRepository adminRepository;
   private final AdminSessionService sessionService;
-  private final PasswordEncoder passwordEncoder;
+  private final HashParole hashParole;
 
   public AuthController(AdminRepository adminRepository, AdminSessionService sessionService,
-      PasswordEncoder passwordEncoder) {
+      HashParole hashParole) {
     this.adminRepository = adminRepository;
     this.sessionService = sessionService;
-    this.passwordEncoder = passwordEncoder;
+    this.hashParole = hashParole;
   }
 
   @PostMapping("/login")
@@ -53,7 +53,7 @@ public class AuthController {
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED,
             "Credentiale invalide"));
 
-    if (!passwordEncoder.matches(request.parola(), admin.getParolaHash())) {
+    if (!hashParole.matches(request.parola(), admin.getParolaHash())) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Credentiale invalide");
     }
 
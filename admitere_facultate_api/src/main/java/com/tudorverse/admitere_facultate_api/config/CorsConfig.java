@@ -16,6 +16,7 @@ public class CorsConfig implements WebMvcConfigurer {
 			.allowedOrigins("http://localhost:3000", "http://localhost:5173")
 			.allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
 			.allowedHeaders("*")
+			.exposedHeaders("Link", "X-Total-Count")
 			.allowCredentials(true);
 	}
 }
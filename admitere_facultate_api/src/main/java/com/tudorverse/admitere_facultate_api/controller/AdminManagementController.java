@@ -5,10 +5,10 @@ import com.tudorverse.admitere_facultate_api.dto.AdminResponse;
 import com.tudorverse.admitere_facultate_api.dto.AdminUpdateRequest;
 import com.tudorverse.admitere_facultate_api.model.Admin;
 import com.tudorverse.admitere_facultate_api.repository.AdminRepository;
+import com.tudorverse.admitere_facultate_api.service.HashParole;
 import java.util.List;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,11 +28,11 @@ import org.springframework.web.server.ResponseStatusException;
 public class AdminManagementController {
 
   private final AdminRepository adminRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final HashParole hashParole;
 
-  public AdminManagementController(AdminRepository adminRepository, PasswordEncoder passwordEncoder) {
+  public AdminManagementController(AdminRepository adminRepository, HashParole hashParole) {
     this.adminRepository = adminRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.hashParole = hashParole;
   }
 
   @GetMapping
@@ -50,7 +50,7 @@ public class AdminManagementController {
     }
     Admin admin = new Admin();
     admin.setEmail(request.email().trim());
-    admin.setParolaHash(passwordEncoder.encode(request.parola()));
+    admin.setParolaHash(hashParole.encode(request.parola()));
     return toResponse(adminRepository.save(admin));
   }
 
@@ -64,7 +64,7 @@ public class AdminManagementController {
         admin.setEmail(request.email().trim());
       }
       if (!isBlank(request.parola())) {
-        admin.setParolaHash(passwordEncoder.encode(request.parola()));
+        admin.setParolaHash(hashParole.encode(request.parola()));
       }
     }
 
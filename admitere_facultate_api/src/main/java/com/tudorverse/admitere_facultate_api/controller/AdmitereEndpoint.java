@@ -0,0 +1,28 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.dto.ProfilRulareResponse;
+import com.tudorverse.admitere_facultate_api.service.MetriciProcesare;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Actuator /actuator/admitere cu profilele ultimelor rulari de procesare, cele mai
+ * recente primele.
+ */
+@Component
+@Endpoint(id = "admitere")
+public class AdmitereEndpoint {
+
+  private final MetriciProcesare metriciProcesare;
+
+  public AdmitereEndpoint(MetriciProcesare metriciProcesare) {
+    this.metriciProcesare = metriciProcesare;
+  }
+
+  @ReadOperation
+  public List<ProfilRulareResponse> profile() {
+    return metriciProcesare.profileRecente();
+  }
+}
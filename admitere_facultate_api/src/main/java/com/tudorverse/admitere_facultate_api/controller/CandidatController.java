@@ -3,11 +3,22 @@ package com.tudorverse.admitere_facultate_api.controller;
 import com.tudorverse.admitere_facultate_api.dto.CandidatUpsertRequest;
 import com.tudorverse.admitere_facultate_api.model.Candidat;
 import com.tudorverse.admitere_facultate_api.repository.CandidatRepository;
+import com.tudorverse.admitere_facultate_api.repository.IncarcarePeLoturi;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.service.HashParole;
+import com.tudorverse.admitere_facultate_api.service.IndexCandidati;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -28,35 +40,80 @@ import org.springframework.web.server.ResponseStatusException;
 public class CandidatController {
 
   private final CandidatRepository candidatRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PaginiRepository paginiRepository;
+  private final HashParole hashParole;
+  private final ModificariAdmitere modificariAdmitere;
+  private final VersiuniTabele versiuniTabele;
+  private final IndexCandidati indexCandidati;
 
   /**
-   * Creeaza controller-ul cu dependintele de repository si encoder-ul de parole.
+   * Creeaza controller-ul cu dependintele de repository, encoder-ul de parole, jurnalul
+   * de modificari, versiunile tabelelor si indexul de cautare.
    */
-  public CandidatController(CandidatRepository candidatRepository, PasswordEncoder passwordEncoder) {
+  public CandidatController(CandidatRepository candidatRepository,
+      PaginiRepository paginiRepository, HashParole hashParole,
+      ModificariAdmitere modificariAdmitere, VersiuniTabele versiuniTabele,
+      IndexCandidati indexCandidati) {
     this.candidatRepository = candidatRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.paginiRepository = paginiRepository;
+    this.hashParole = hashParole;
+    this.modificariAdmitere = modificariAdmitere;
+    this.versiuniTabele = versiuniTabele;
+    this.indexCandidati = indexCandidati;
   }
 
   /**
-   * Listeaza candidati filtrati dupa nume, prenume sau email (optionale).
+   * Listeaza candidati filtrati dupa nume, prenume sau email (optionale). Lista nefiltrata este
+   * sortata dupa id si paginata keyset ({@code after}, {@code limit}; vezi {@link Paginare});
+   * cautarea foloseste {@link IndexCandidati} si intoarce candidatii in ordinea relevantei,
+   * paginati la fel, dupa ultimul candidat primit. Cu {@code toate=true} intoarce toti
+   * candidatii potriviti. Totalul estimat este trimis doar pentru lista nefiltrata.
    */
   @GetMapping
-  public List<Candidat> list(@RequestParam(required = false) String nume,
+  public ResponseEntity<List<Candidat>> list(@RequestParam(required = false) String nume,
       @RequestParam(required = false) String prenume,
-      @RequestParam(required = false) String email) {
+      @RequestParam(required = false) String email,
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(defaultValue = "false") boolean toate,
+      @RequestParam(defaultValue = "false") boolean total,
+      WebRequest request) {
+    if (CereriConditionate.nemodificat(request,
+        versiuniTabele.versiune(Tabela.CANDIDAT))) {
+      return null;
+    }
     String normalizedNume = normalizeFilter(nume);
     String normalizedPrenume = normalizeFilter(prenume);
     String normalizedEmail = normalizeFilter(email);
+    boolean nefiltrat =
+        normalizedNume == null && normalizedPrenume == null && normalizedEmail == null;
+    int limita = toate ? Integer.MAX_VALUE : Paginare.limita(limit);
+
+    if (!nefiltrat) {
+      long[] ids = indexCandidati.cauta(normalizedNume, normalizedPrenume, normalizedEmail,
+          toate ? 0 : Paginare.dupa(after), toate ? limita : limita + 1);
+      if (ids != null) {
+        List<Candidat> gasiti = hidrateaza(ids);
+        return toate ? ResponseEntity.ok(gasiti)
+            : Paginare.pagina(gasiti, limita, Candidat::getId, null);
+      }
+    }
+
+    if (!toate) {
+      return Paginare.pagina(paginiRepository.candidati(Paginare.dupa(after), limita + 1,
+              normalizedNume, normalizedPrenume, normalizedEmail),
+          limita, Candidat::getId,
+          total && nefiltrat ? paginiRepository.estimare("candidat") : null);
+    }
 
-    if (normalizedNume == null && normalizedPrenume == null && normalizedEmail == null) {
-      return candidatRepository.findAll(Sort.by("id"));
+    if (nefiltrat) {
+      return ResponseEntity.ok(candidatRepository.findAll(Sort.by("id")));
     }
 
-    return candidatRepository.search(
+    return ResponseEntity.ok(candidatRepository.search(
         normalizedNume == null ? "" : normalizedNume,
         normalizedPrenume == null ? "" : normalizedPrenume,
-        normalizedEmail == null ? "" : normalizedEmail);
+        normalizedEmail == null ? "" : normalizedEmail));
   }
 
   /**
@@ -79,8 +136,11 @@ public class CandidatController {
     payload.setNume(nume);
     payload.setPrenume(prenume);
     payload.setEmail(email);
-    payload.setParolaHash(parola == null ? null : passwordEncoder.encode(parola));
-    return candidatRepository.save(payload);
+    payload.setParolaHash(parola == null ? null : hashParole.encode(parola));
+    Candidat saved = candidatRepository.save(payload);
+    versiuniTabele.modificat(Tabela.CANDIDAT);
+    indexCandidati.actualizat(saved);
+    return saved;
   }
 
   /**
@@ -104,9 +164,13 @@ public class CandidatController {
     existing.setPrenume(prenume);
     existing.setEmail(email);
     if (parola != null) {
-      existing.setParolaHash(passwordEncoder.encode(parola));
+      existing.setParolaHash(hashParole.encode(parola));
     }
-    return candidatRepository.save(existing);
+    Candidat saved = candidatRepository.save(existing);
+    versiuniTabele.modificat(Tabela.CANDIDAT);
+    indexCandidati.actualizat(saved);
+    modificariAdmitere.candidatModificat(id);
+    return saved;
   }
 
   /**
@@ -119,6 +183,30 @@ public class CandidatController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Candidat inexistent");
     }
     candidatRepository.deleteById(id);
+    versiuniTabele.modificat(Tabela.CANDIDAT);
+    indexCandidati.sters(id);
+  }
+
+  /**
+   * Incarca candidatii gasiti in index, in loturi de id-uri (o cautare larga cu
+   * {@code toate=true} poate gasi sute de mii), si ii intoarce in ordinea relevantei;
+   * candidatii stersi intre timp lipsesc.
+   */
+  private List<Candidat> hidrateaza(long[] ids) {
+    List<Long> lista = Arrays.stream(ids).boxed().toList();
+    Map<Long, Candidat> dupaId = new HashMap<>();
+    for (Candidat candidat : IncarcarePeLoturi.incarca(lista,
+        candidatRepository::findAllById)) {
+      dupaId.put(candidat.getId(), candidat);
+    }
+    List<Candidat> rezultat = new ArrayList<>(ids.length);
+    for (Long id : lista) {
+      Candidat candidat = dupaId.get(id);
+      if (candidat != null) {
+        rezultat.add(candidat);
+      }
+    }
+    return rezultat;
   }
 
   /**
@@ -0,0 +1,31 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * GET-uri conditionate pentru listele administrate: raspunsul poarta ETag-ul si Last-Modified
+ * ale versiunii curente, iar {@code Cache-Control: no-cache} obliga browserul sa revalideze de
+ * fiecare data in loc sa refoloseasca euristic lista din cache.
+ */
+final class CereriConditionate {
+
+  private static final String NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+  private CereriConditionate() {
+  }
+
+  /**
+   * Returneaza true, cu statusul 304 deja setat, cand clientul are versiunea curenta; handler-ul
+   * intoarce atunci null, fara interogare si fara serializare.
+   */
+  static boolean nemodificat(WebRequest request, VersiuniTabele.Versiune versiune) {
+    if (request instanceof ServletWebRequest servlet && servlet.getResponse() != null) {
+      servlet.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, NO_CACHE);
+    }
+    return request.checkNotModified(versiune.etag(), versiune.modificat().toEpochMilli());
+  }
+}
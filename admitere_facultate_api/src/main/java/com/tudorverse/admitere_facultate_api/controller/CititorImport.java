@@ -0,0 +1,169 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.service.RandImport;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Citeste corpul unui import rand cu rand, pe masura ce soseste: CSV cu antet (campuri
+ * separate prin virgula, optional intre ghilimele, cu {@code ""} pentru o ghilimea) sau NDJSON
+ * (un obiect JSON pe linie). Fiecare rand devine un map camp - text; un rand care nu poate fi
+ * citit poarta motivul si nu opreste importul. Liniile goale sunt sarite, iar un camp CSV nu
+ * poate contine un sfarsit de linie.
+ */
+final class CititorImport implements Iterator<RandImport> {
+
+  private static final int BUFFER = 64 * 1024;
+
+  private final BufferedReader reader;
+  private final boolean csv;
+  private final ObjectMapper mapper;
+  private List<String> antet;
+  private String eroareAntet;
+  private String linie;
+  private int numar;
+
+  CititorImport(InputStream input, Charset charset, boolean csv, ObjectMapper mapper) {
+    this.reader = new BufferedReader(new InputStreamReader(input, charset), BUFFER);
+    this.csv = csv;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (csv && antet == null) {
+      citesteAntet();
+    }
+    while (linie == null) {
+      String citita = citeste();
+      if (citita == null) {
+        return false;
+      }
+      if (!citita.isBlank()) {
+        linie = citita;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public RandImport next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String curenta = linie;
+    linie = null;
+    numar++;
+    try {
+      return new RandImport(numar, csv ? randCsv(curenta) : randJson(curenta), null);
+    } catch (IllegalArgumentException ex) {
+      return new RandImport(numar, Map.of(), ex.getMessage());
+    } catch (JacksonException ex) {
+      return new RandImport(numar, Map.of(), "JSON invalid: " + ex.getOriginalMessage());
+    }
+  }
+
+  // Prima linie a unui CSV este antetul, eventual precedata de BOM.
+  private void citesteAntet() {
+    String citita = citeste();
+    if (citita != null && citita.startsWith("\uFEFF")) {
+      citita = citita.substring(1);
+    }
+    List<String> campuri = citita == null ? null : campuriCsv(citita);
+    antet = campuri == null ? List.of() : campuri.stream().map(String::trim).toList();
+    eroareAntet = campuri == null ? "Antet CSV lipsa sau invalid" : null;
+  }
+
+  private String citeste() {
+    try {
+      return reader.readLine();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private Map<String, String> randCsv(String linieCsv) {
+    if (eroareAntet != null) {
+      throw new IllegalArgumentException(eroareAntet);
+    }
+    List<String> valori = campuriCsv(linieCsv);
+    if (valori == null) {
+      throw new IllegalArgumentException("Ghilimele neinchise");
+    }
+    if (valori.size() != antet.size()) {
+      throw new IllegalArgumentException("Randul are " + valori.size() + " campuri, antetul "
+          + antet.size());
+    }
+    Map<String, String> campuri = new HashMap<>();
+    for (int i = 0; i < valori.size(); i++) {
+      campuri.put(antet.get(i), valori.get(i));
+    }
+    return campuri;
+  }
+
+  private Map<String, String> randJson(String linieJson) {
+    JsonNode nod = mapper.readTree(linieJson);
+    if (!nod.isObject()) {
+      throw new IllegalArgumentException("Randul nu este un obiect JSON");
+    }
+    Map<String, String> campuri = new HashMap<>();
+    for (Map.Entry<String, JsonNode> camp : nod.properties()) {
+      JsonNode valoare = camp.getValue();
+      if (valoare.isNull()) {
+        continue;
+      }
+      if (!valoare.isValueNode()) {
+        throw new IllegalArgumentException("Campul " + camp.getKey() + " nu este o valoare");
+      }
+      campuri.put(camp.getKey(), valoare.asString());
+    }
+    return campuri;
+  }
+
+  /**
+   * Campurile unei linii CSV, sau null daca o ghilimea ramane neinchisa.
+   */
+  private static List<String> campuriCsv(String linieCsv) {
+    List<String> campuri = new ArrayList<>();
+    StringBuilder camp = new StringBuilder();
+    boolean intreGhilimele = false;
+    for (int i = 0; i < linieCsv.length(); i++) {
+      char c = linieCsv.charAt(i);
+      if (intreGhilimele) {
+        if (c != '"') {
+          camp.append(c);
+        } else if (i + 1 < linieCsv.length() && linieCsv.charAt(i + 1) == '"') {
+          camp.append('"');
+          i++;
+        } else {
+          intreGhilimele = false;
+        }
+      } else if (c == '"') {
+        intreGhilimele = true;
+      } else if (c == ',') {
+        campuri.add(camp.toString());
+        camp.setLength(0);
+      } else {
+        camp.append(c);
+      }
+    }
+    if (intreGhilimele) {
+      return null;
+    }
+    campuri.add(camp.toString());
+    return campuri;
+  }
+}
@@ -3,8 +3,14 @@ package com.tudorverse.admitere_facultate_api.controller;
 import com.tudorverse.admitere_facultate_api.dto.DosarResponse;
 import com.tudorverse.admitere_facultate_api.model.Dosar;
 import com.tudorverse.admitere_facultate_api.repository.DosarRepository;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.repository.ParcurgereRepository;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,9 +18,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Endpoint-uri CRUD pentru tabela dosar.
@@ -24,20 +34,67 @@ import org.springframework.web.server.ResponseStatusException;
 public class DosarController {
 
   private final DosarRepository dosarRepository;
+  private final ParcurgereRepository parcurgereRepository;
+  private final PaginiRepository paginiRepository;
+  private final ModificariAdmitere modificariAdmitere;
+  private final VersiuniTabele versiuniTabele;
+  private final ObjectMapper objectMapper;
 
   /**
-   * Creeaza controller-ul cu dependinta de repository.
+   * Creeaza controller-ul cu dependintele de repository, jurnalul de modificari,
+   * versiunile tabelelor si serializatorul JSON pentru listarile in flux.
    */
-  public DosarController(DosarRepository dosarRepository) {
+  public DosarController(DosarRepository dosarRepository,
+      ParcurgereRepository parcurgereRepository,
+      PaginiRepository paginiRepository,
+      ModificariAdmitere modificariAdmitere,
+      ObjectMapper objectMapper,
+      VersiuniTabele versiuniTabele) {
     this.dosarRepository = dosarRepository;
+    this.parcurgereRepository = parcurgereRepository;
+    this.paginiRepository = paginiRepository;
+    this.modificariAdmitere = modificariAdmitere;
+    this.versiuniTabele = versiuniTabele;
+    this.objectMapper = objectMapper;
   }
 
   /**
-   * Listeaza toate dosarele sortate dupa id.
+   * Listeaza dosarele sortate dupa id, pe pagini keyset ({@code after}, {@code limit}; vezi
+   * {@link Paginare}). Cu {@code toate=true} intoarce toata tabela, ca inainte.
    */
   @GetMapping
-  public List<DosarResponse> list() {
-    return dosarRepository.findAllWithCandidat();
+  public ResponseEntity<List<DosarResponse>> list(
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(defaultValue = "false") boolean toate,
+      @RequestParam(defaultValue = "false") boolean total,
+      WebRequest request) {
+    if (CereriConditionate.nemodificat(request,
+        versiuniTabele.versiune(Tabela.DOSAR, Tabela.CANDIDAT))) {
+      return null;
+    }
+    if (toate) {
+      return ResponseEntity.ok(dosarRepository.findAllWithCandidat());
+    }
+    int limita = Paginare.limita(limit);
+    return Paginare.pagina(paginiRepository.dosare(Paginare.dupa(after), limita + 1), limita,
+        DosarResponse::id, total ? paginiRepository.estimare("dosar") : null);
+  }
+
+  /**
+   * Listeaza dosarele ca NDJSON, direct din cursorul bazei de date.
+   */
+  @GetMapping(produces = FluxJson.NDJSON)
+  public ResponseEntity<StreamingResponseBody> listNdjson() {
+    return FluxJson.ndjson(objectMapper, parcurgereRepository::parcurgeDosare);
+  }
+
+  /**
+   * Listeaza dosarele ca tablou JSON scris in flux, direct din cursorul bazei de date.
+   */
+  @GetMapping(produces = FluxJson.TABLOU)
+  public ResponseEntity<StreamingResponseBody> listFlux() {
+    return FluxJson.tablou(objectMapper, parcurgereRepository::parcurgeDosare);
   }
 
   /**
@@ -53,7 +110,10 @@ public class DosarController {
     payload.setCandidatId(dosar.getCandidatId());
     payload.setStatus(dosar.getStatus().trim());
     payload.setMedie(dosar.getMedie());
-    return dosarRepository.save(payload);
+    Dosar saved = dosarRepository.save(payload);
+    versiuniTabele.modificat(Tabela.DOSAR);
+    modificariAdmitere.dosarModificat(saved.getId());
+    return saved;
   }
 
   /**
@@ -69,7 +129,10 @@ public class DosarController {
     existing.setCandidatId(dosar.getCandidatId());
     existing.setStatus(dosar.getStatus().trim());
     existing.setMedie(dosar.getMedie());
-    return dosarRepository.save(existing);
+    Dosar saved = dosarRepository.save(existing);
+    versiuniTabele.modificat(Tabela.DOSAR);
+    modificariAdmitere.dosarModificat(id);
+    return saved;
   }
 
   /**
@@ -82,6 +145,8 @@ public class DosarController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Dosar inexistent");
     }
     dosarRepository.deleteById(id);
+    versiuniTabele.modificat(Tabela.DOSAR);
+    modificariAdmitere.dosarModificat(id);
   }
 
   /**
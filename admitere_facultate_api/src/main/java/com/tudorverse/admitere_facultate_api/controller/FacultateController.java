@@ -1,10 +1,18 @@
 package com.tudorverse.admitere_facultate_api.controller;
 
+import com.tudorverse.admitere_facultate_api.dto.SugestieResponse;
 import com.tudorverse.admitere_facultate_api.model.Facultate;
 import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.IndexNume;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
+import java.util.ArrayList;
 import java.util.List;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +23,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -24,25 +33,81 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestMapping("/api/admin/facultati")
 public class FacultateController {
 
+  private static final int LIMITA_SUGESTII = 100;
+
   private final FacultateRepository facultateRepository;
+  private final PaginiRepository paginiRepository;
+  private final ModificariAdmitere modificariAdmitere;
+  private final VersiuniTabele versiuniTabele;
+  private final IndexNume indexNume;
+  private final CatalogReferinta catalogReferinta;
 
   /**
-   * Creeaza controller-ul cu dependinta de repository.
+   * Creeaza controller-ul cu dependintele de repository, jurnalul de modificari, versiunile
+   * tabelelor, indexul numelor si catalogul de referinta.
    */
-  public FacultateController(FacultateRepository facultateRepository) {
+  public FacultateController(FacultateRepository facultateRepository,
+      PaginiRepository paginiRepository,
+      ModificariAdmitere modificariAdmitere,
+      VersiuniTabele versiuniTabele,
+      IndexNume indexNume,
+      CatalogReferinta catalogReferinta) {
     this.facultateRepository = facultateRepository;
+    this.paginiRepository = paginiRepository;
+    this.modificariAdmitere = modificariAdmitere;
+    this.versiuniTabele = versiuniTabele;
+    this.indexNume = indexNume;
+    this.catalogReferinta = catalogReferinta;
   }
 
   /**
-   * Listeaza facultati, optional filtrate dupa un query de nume.
+   * Listeaza facultati, optional filtrate dupa un query de nume. Fara query, lista este
+   * ordonata dupa id si paginata keyset ({@code after}, {@code limit}; vezi {@link Paginare}),
+   * iar {@code toate=true} intoarce toate facultatile din catalogul de referinta; cautarea
+   * dupa nume ramane nepaginata, ordonata dupa nume.
    */
   @GetMapping
-  public List<Facultate> list(@RequestParam(required = false) String q) {
+  public ResponseEntity<List<Facultate>> list(@RequestParam(required = false) String q,
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(defaultValue = "false") boolean toate,
+      @RequestParam(defaultValue = "false") boolean total,
+      WebRequest request) {
+    if (CereriConditionate.nemodificat(request,
+        versiuniTabele.versiune(Tabela.FACULTATE))) {
+      return null;
+    }
     String query = normalize(q);
-    if (query == null) {
-      return facultateRepository.findAll(Sort.by("id"));
+    if (query != null) {
+      return ResponseEntity.ok(
+          facultateRepository.findByNumeContainingIgnoreCaseOrderByNumeAsc(query));
+    }
+    if (toate) {
+      List<Facultate> facultati = new ArrayList<>();
+      catalogReferinta.catalog().facultati().forEach((id, nume) -> {
+        Facultate facultate = new Facultate();
+        facultate.setId(id);
+        facultate.setNume(nume);
+        facultati.add(facultate);
+      });
+      return ResponseEntity.ok(facultati);
+    }
+    int limita = Paginare.limita(limit);
+    return Paginare.pagina(paginiRepository.facultati(Paginare.dupa(after), limita + 1),
+        limita, Facultate::getId, total ? paginiRepository.estimare("facultate") : null);
+  }
+
+  /**
+   * Autocompletare: cel mult {@code limit} facultati al caror nume sau un cuvant din nume incepe
+   * cu {@code q}, din indexul in memorie.
+   */
+  @GetMapping("/sugestii")
+  public List<SugestieResponse> sugestii(@RequestParam(defaultValue = "") String q,
+      @RequestParam(defaultValue = "10") int limit) {
+    if (limit < 1 || limit > LIMITA_SUGESTII) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limita invalida");
     }
-    return facultateRepository.findByNumeContainingIgnoreCaseOrderByNumeAsc(query);
+    return indexNume.facultati(q, limit);
   }
 
   /**
@@ -56,7 +121,12 @@ public class FacultateController {
     }
     Facultate payload = new Facultate();
     payload.setNume(facultate.getNume().trim());
-    return facultateRepository.save(payload);
+    Facultate saved = facultateRepository.save(payload);
+    versiuniTabele.modificat(Tabela.FACULTATE);
+    indexNume.facultateSalvata(saved);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
+    return saved;
   }
 
   /**
@@ -70,7 +140,12 @@ public class FacultateController {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nume lipsa");
     }
     existing.setNume(facultate.getNume().trim());
-    return facultateRepository.save(existing);
+    Facultate saved = facultateRepository.save(existing);
+    versiuniTabele.modificat(Tabela.FACULTATE);
+    indexNume.facultateSalvata(saved);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
+    return saved;
   }
 
   /**
@@ -83,6 +158,10 @@ public class FacultateController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Facultate inexistenta");
     }
     facultateRepository.deleteById(id);
+    versiuniTabele.modificat(Tabela.FACULTATE);
+    indexNume.facultateStearsa(id);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
   }
 
   /**
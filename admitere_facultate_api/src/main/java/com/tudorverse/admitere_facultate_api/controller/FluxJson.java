@@ -0,0 +1,64 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Reprezentarile in flux ale listelor mari, alese prin header-ul Accept: NDJSON (un obiect
+ * JSON pe linie) sau un tablou JSON scris element cu element. Elementele sunt serializate pe
+ * masura ce sursa le produce, fara a materializa lista; cand clientul citeste incet, scrierea
+ * in fluxul servlet se blocheaza si opreste si sursa (de exemplu cursorul bazei de date).
+ */
+final class FluxJson {
+
+  static final String NDJSON = "application/x-ndjson";
+  static final String TABLOU = "application/vnd.admitere.stream+json";
+
+  private FluxJson() {
+  }
+
+  /**
+   * Sursa elementelor; apeleaza consumatorul pentru fiecare, in ordine.
+   */
+  @FunctionalInterface
+  interface Sursa<T> {
+    void parcurge(Consumer<T> consumer);
+  }
+
+  static <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper mapper, Sursa<T> sursa) {
+    ObjectWriter writer = mapper.writer()
+        .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .withRootValueSeparator("\n");
+    StreamingResponseBody body = output -> {
+      try (JsonGenerator generator = writer.createGenerator(output)) {
+        boolean[] gol = {true};
+        sursa.parcurge(element -> {
+          generator.writePOJO(element);
+          gol[0] = false;
+        });
+        if (!gol[0]) {
+          generator.writeRaw('\n');
+        }
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+  }
+
+  static <T> ResponseEntity<StreamingResponseBody> tablou(ObjectMapper mapper, Sursa<T> sursa) {
+    ObjectWriter writer = mapper.writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    StreamingResponseBody body = output -> {
+      try (JsonGenerator generator = writer.createGenerator(output)) {
+        generator.writeStartArray();
+        sursa.parcurge(generator::writePOJO);
+        generator.writeEndArray();
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(TABLOU)).body(body);
+  }
+}
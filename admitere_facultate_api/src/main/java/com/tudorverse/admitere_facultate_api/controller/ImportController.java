@@ -0,0 +1,60 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.dto.ImportResponse;
+import com.tudorverse.admitere_facultate_api.service.ImportService;
+import com.tudorverse.admitere_facultate_api.service.ImportService.Tip;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Import in masa pentru candidati, dosare si optiuni, din CSV cu antet sau NDJSON. Corpul este
+ * citit in flux si scris in loturi de {@link ImportService}; raspunsul contine id-ul creat
+ * pentru fiecare rand si erorile randurilor respinse.
+ */
+@RestController
+@RequestMapping("/api/admin/import")
+public class ImportController {
+
+  private static final String CSV = "text/csv";
+
+  private final ImportService importService;
+  private final ObjectMapper objectMapper;
+
+  public ImportController(ImportService importService, ObjectMapper objectMapper) {
+    this.importService = importService;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Importa randurile din corp in tabela ({@code candidati}, {@code dosare} sau
+   * {@code optiuni}). Campurile au numele din JSON-ul entitatilor; candidatii pot avea o
+   * {@code parola}, care este salvata ca hash.
+   */
+  @PostMapping(path = "/{tabela}", consumes = {CSV, FluxJson.NDJSON})
+  public ImportResponse importa(@PathVariable String tabela,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body) {
+    Tip tip = switch (tabela) {
+      case "candidati" -> Tip.CANDIDATI;
+      case "dosare" -> Tip.DOSARE;
+      case "optiuni" -> Tip.OPTIUNI;
+      default -> throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Tabela necunoscuta");
+    };
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    Charset charset = mediaType.getCharset() == null
+        ? StandardCharsets.UTF_8 : mediaType.getCharset();
+    boolean csv = mediaType.isCompatibleWith(MediaType.parseMediaType(CSV));
+    return importService.importa(tip, new CititorImport(body, charset, csv, objectMapper));
+  }
+}
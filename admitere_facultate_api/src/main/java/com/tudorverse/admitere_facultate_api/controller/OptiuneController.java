@@ -2,9 +2,15 @@ package com.tudorverse.admitere_facultate_api.controller;
 
 import com.tudorverse.admitere_facultate_api.model.Optiune;
 import com.tudorverse.admitere_facultate_api.repository.OptiuneRepository;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.repository.ParcurgereRepository;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
 import java.util.List;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,9 +18,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Endpoint-uri CRUD pentru tabela optiune.
@@ -24,20 +34,67 @@ import org.springframework.web.server.ResponseStatusException;
 public class OptiuneController {
 
   private final OptiuneRepository optiuneRepository;
+  private final ParcurgereRepository parcurgereRepository;
+  private final PaginiRepository paginiRepository;
+  private final ModificariAdmitere modificariAdmitere;
+  private final VersiuniTabele versiuniTabele;
+  private final ObjectMapper objectMapper;
 
   /**
-   * Creeaza controller-ul cu dependinta de repository.
+   * Creeaza controller-ul cu dependintele de repository, jurnalul de modificari,
+   * versiunile tabelelor si serializatorul JSON pentru listarile in flux.
    */
-  public OptiuneController(OptiuneRepository optiuneRepository) {
+  public OptiuneController(OptiuneRepository optiuneRepository,
+      ParcurgereRepository parcurgereRepository,
+      PaginiRepository paginiRepository,
+      ModificariAdmitere modificariAdmitere,
+      ObjectMapper objectMapper,
+      VersiuniTabele versiuniTabele) {
     this.optiuneRepository = optiuneRepository;
+    this.parcurgereRepository = parcurgereRepository;
+    this.paginiRepository = paginiRepository;
+    this.modificariAdmitere = modificariAdmitere;
+    this.versiuniTabele = versiuniTabele;
+    this.objectMapper = objectMapper;
   }
 
   /**
-   * Listeaza toate optiunile sortate dupa id.
+   * Listeaza optiunile sortate dupa id, pe pagini keyset ({@code after}, {@code limit}; vezi
+   * {@link Paginare}). Cu {@code toate=true} intoarce toata tabela, ca inainte.
    */
   @GetMapping
-  public List<Optiune> list() {
-    return optiuneRepository.findAll(Sort.by("id"));
+  public ResponseEntity<List<Optiune>> list(
+      @RequestParam(required = false) Long after,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(defaultValue = "false") boolean toate,
+      @RequestParam(defaultValue = "false") boolean total,
+      WebRequest request) {
+    if (CereriConditionate.nemodificat(request,
+        versiuniTabele.versiune(Tabela.OPTIUNE))) {
+      return null;
+    }
+    if (toate) {
+      return ResponseEntity.ok(optiuneRepository.findAll(Sort.by("id")));
+    }
+    int limita = Paginare.limita(limit);
+    return Paginare.pagina(paginiRepository.optiuni(Paginare.dupa(after), limita + 1), limita,
+        Optiune::getId, total ? paginiRepository.estimare("optiune") : null);
+  }
+
+  /**
+   * Listeaza optiunile ca NDJSON, direct din cursorul bazei de date.
+   */
+  @GetMapping(produces = FluxJson.NDJSON)
+  public ResponseEntity<StreamingResponseBody> listNdjson() {
+    return FluxJson.ndjson(objectMapper, parcurgereRepository::parcurgeOptiuni);
+  }
+
+  /**
+   * Listeaza optiunile ca tablou JSON scris in flux, direct din cursorul bazei de date.
+   */
+  @GetMapping(produces = FluxJson.TABLOU)
+  public ResponseEntity<StreamingResponseBody> listFlux() {
+    return FluxJson.tablou(objectMapper, parcurgereRepository::parcurgeOptiuni);
   }
 
   /**
@@ -53,7 +110,10 @@ public class OptiuneController {
     payload.setDosarId(optiune.getDosarId());
     payload.setProgramId(optiune.getProgramId());
     payload.setPrioritate(optiune.getPrioritate());
-    return optiuneRepository.save(payload);
+    Optiune saved = optiuneRepository.save(payload);
+    versiuniTabele.modificat(Tabela.OPTIUNE);
+    modificariAdmitere.dosarModificat(saved.getDosarId());
+    return saved;
   }
 
   /**
@@ -66,10 +126,15 @@ public class OptiuneController {
     if (optiune == null || optiune.getDosarId() == null || optiune.getProgramId() == null) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date incomplete");
     }
+    Long dosarAnterior = existing.getDosarId();
     existing.setDosarId(optiune.getDosarId());
     existing.setProgramId(optiune.getProgramId());
     existing.setPrioritate(optiune.getPrioritate());
-    return optiuneRepository.save(existing);
+    Optiune saved = optiuneRepository.save(existing);
+    versiuniTabele.modificat(Tabela.OPTIUNE);
+    modificariAdmitere.dosarModificat(dosarAnterior);
+    modificariAdmitere.dosarModificat(saved.getDosarId());
+    return saved;
   }
 
   /**
@@ -78,10 +143,11 @@ public class OptiuneController {
   @DeleteMapping("/{id}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   public void delete(@PathVariable Long id) {
-    if (!optiuneRepository.existsById(id)) {
-      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Optiune inexistenta");
-    }
+    Optiune existing = optiuneRepository.findById(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Optiune inexistenta"));
     optiuneRepository.deleteById(id);
+    versiuniTabele.modificat(Tabela.OPTIUNE);
+    modificariAdmitere.dosarModificat(existing.getDosarId());
   }
 
   /**
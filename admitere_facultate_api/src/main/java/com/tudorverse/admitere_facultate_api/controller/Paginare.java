@@ -0,0 +1,69 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Paginarea keyset a listelor administrate. Corpul raspunsului ramane un tablou JSON, ca
+ * inainte; pagina urmatoare este data de header-ul {@code Link} ({@code rel="next"}, cu
+ * {@code after} egal cu ultimul id), iar la cerere numarul estimat de randuri de
+ * {@code X-Total-Count}.
+ */
+final class Paginare {
+
+  static final int LIMITA_IMPLICITA = 100;
+  static final int LIMITA_MAXIMA = 1000;
+  static final String TOTAL = "X-Total-Count";
+
+  private Paginare() {
+  }
+
+  /**
+   * Dimensiunea paginii ceruta, implicit {@link #LIMITA_IMPLICITA}, cel mult
+   * {@link #LIMITA_MAXIMA}.
+   */
+  static int limita(Integer limit) {
+    if (limit == null) {
+      return LIMITA_IMPLICITA;
+    }
+    if (limit < 1) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limita invalida");
+    }
+    return Math.min(limit, LIMITA_MAXIMA);
+  }
+
+  /**
+   * Id-ul dupa care incepe pagina; fara {@code after} lista incepe cu primul id.
+   */
+  static long dupa(Long after) {
+    return after == null ? 0 : after;
+  }
+
+  /**
+   * Raspunsul pentru o pagina citita cu {@code limita + 1} randuri: randul in plus doar arata
+   * ca exista o pagina urmatoare si nu este trimis.
+   */
+  static <T> ResponseEntity<List<T>> pagina(List<T> elemente, int limita, ToLongFunction<T> id,
+      Long total) {
+    ResponseEntity.BodyBuilder raspuns = ResponseEntity.ok();
+    List<T> pagina = elemente;
+    if (elemente.size() > limita) {
+      pagina = elemente.subList(0, limita);
+      String urmatoarea = ServletUriComponentsBuilder.fromCurrentRequest()
+          .replaceQueryParam("after", id.applyAsLong(pagina.get(limita - 1)))
+          .replaceQueryParam("limit", limita)
+          .build()
+          .toUriString();
+      raspuns.header(HttpHeaders.LINK, "<" + urmatoarea + ">; rel=\"next\"");
+    }
+    if (total != null) {
+      raspuns.header(TOTAL, Long.toString(total));
+    }
+    return raspuns.body(pagina);
+  }
+}
@@ -1,10 +1,19 @@
 package com.tudorverse.admitere_facultate_api.controller;
 
+import com.tudorverse.admitere_facultate_api.dto.JobProcesareResponse;
 import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.service.JobProcesareService;
 import com.tudorverse.admitere_facultate_api.service.ProcesareAdmitereService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * Endpoint pentru declansarea procesarii admiterii din dashboard-ul admin.
@@ -14,13 +23,56 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProcesareAdmitereController {
 
   private final ProcesareAdmitereService procesareAdmitereService;
+  private final JobProcesareService jobProcesareService;
 
-  public ProcesareAdmitereController(ProcesareAdmitereService procesareAdmitereService) {
+  public ProcesareAdmitereController(ProcesareAdmitereService procesareAdmitereService,
+      JobProcesareService jobProcesareService) {
     this.procesareAdmitereService = procesareAdmitereService;
+    this.jobProcesareService = jobProcesareService;
   }
 
+  /**
+   * Declanseaza procesarea; {@code incremental=true} reia doar pozitiile afectate de
+   * modificarile de la ultima rulare, iar {@code verificare=true} o compara cu o rulare completa.
+   * Apelul nu poate fi anulat, dar daca rularea este partajata cu joburi care cer toate
+   * anularea, raspunde cu 409.
+   */
   @PostMapping
-  public ProcesareAdmitereResponse proceseaza() {
-    return procesareAdmitereService.proceseazaAdmitere();
+  public ProcesareAdmitereResponse proceseaza(
+      @RequestParam(defaultValue = "false") boolean incremental,
+      @RequestParam(defaultValue = "false") boolean verificare) {
+    return procesareAdmitereService.proceseazaAdmitere(incremental, verificare);
+  }
+
+  /**
+   * Porneste procesarea in fundal si returneaza imediat jobul; starea se urmareste prin
+   * {@code GET /joburi/{id}}.
+   */
+  @PostMapping(params = "async=true")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public JobProcesareResponse pornesteJob(
+      @RequestParam(defaultValue = "false") boolean incremental,
+      @RequestParam(defaultValue = "false") boolean verificare) {
+    return jobProcesareService.porneste(incremental, verificare);
+  }
+
+  @GetMapping("/joburi")
+  public List<JobProcesareResponse> listJoburi() {
+    return jobProcesareService.listeaza();
+  }
+
+  @GetMapping("/joburi/{id}")
+  public JobProcesareResponse getJob(@PathVariable String id) {
+    return jobProcesareService.gaseste(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job inexistent"));
+  }
+
+  /**
+   * Cere anularea jobului; rezultatele publicate anterior raman neschimbate.
+   */
+  @PostMapping("/joburi/{id}/anulare")
+  public JobProcesareResponse anuleazaJob(@PathVariable String id) {
+    return jobProcesareService.anuleaza(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job inexistent"));
   }
 }
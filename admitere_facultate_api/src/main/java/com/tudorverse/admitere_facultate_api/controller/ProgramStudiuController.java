@@ -1,8 +1,14 @@
 package com.tudorverse.admitere_facultate_api.controller;
 
 import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.SugestieResponse;
 import com.tudorverse.admitere_facultate_api.model.ProgramStudiu;
 import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.IndexNume;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
 import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -24,24 +31,63 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestMapping("/api/admin/programe-studiu")
 public class ProgramStudiuController {
 
+  private static final int LIMITA_SUGESTII = 100;
+
   private final ProgramStudiuRepository programStudiuRepository;
+  private final ModificariAdmitere modificariAdmitere;
+  private final VersiuniTabele versiuniTabele;
+  private final IndexNume indexNume;
+  private final CatalogReferinta catalogReferinta;
 
-  public ProgramStudiuController(ProgramStudiuRepository programStudiuRepository) {
+  public ProgramStudiuController(ProgramStudiuRepository programStudiuRepository,
+      ModificariAdmitere modificariAdmitere,
+      VersiuniTabele versiuniTabele,
+      IndexNume indexNume,
+      CatalogReferinta catalogReferinta) {
     this.programStudiuRepository = programStudiuRepository;
+    this.modificariAdmitere = modificariAdmitere;
+    this.versiuniTabele = versiuniTabele;
+    this.indexNume = indexNume;
+    this.catalogReferinta = catalogReferinta;
   }
 
+  /**
+   * Programele de studiu cu numele facultatii, din catalogul de referinta, optional filtrate
+   * dupa intervale de locuri (capete incluse).
+   */
   @GetMapping
   public List<ProgramStudiuResponse> list(
       @RequestParam(required = false) Integer locuriBugetMin,
       @RequestParam(required = false) Integer locuriBugetMax,
       @RequestParam(required = false) Integer locuriTaxaMin,
-      @RequestParam(required = false) Integer locuriTaxaMax) {
+      @RequestParam(required = false) Integer locuriTaxaMax,
+      WebRequest request) {
+    if (CereriConditionate.nemodificat(request,
+        versiuniTabele.versiune(Tabela.PROGRAM_STUDIU, Tabela.FACULTATE))) {
+      return null;
+    }
+    List<ProgramStudiuResponse> programe = catalogReferinta.catalog().programe();
     if (locuriBugetMin == null && locuriBugetMax == null
         && locuriTaxaMin == null && locuriTaxaMax == null) {
-      return programStudiuRepository.findAllWithFacultate();
+      return programe;
     }
-    return programStudiuRepository.searchByLocuri(
-        locuriBugetMin, locuriBugetMax, locuriTaxaMin, locuriTaxaMax);
+    return programe.stream()
+        .filter(p -> inInterval(p.locuriBuget(), locuriBugetMin, locuriBugetMax))
+        .filter(p -> inInterval(p.locuriTaxa(), locuriTaxaMin, locuriTaxaMax))
+        .toList();
+  }
+
+  /**
+   * Autocompletare: cel mult {@code limit} programe de studiu al caror nume sau un cuvant din nume incepe
+   * cu {@code q}, din indexul in memorie.
+   */
+  @GetMapping("/sugestii")
+  public List<SugestieResponse> sugestii(@RequestParam(defaultValue = "") String q,
+      @RequestParam(defaultValue = "10") int limit) {
+    if (limit < 1 || limit > LIMITA_SUGESTII) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limita invalida");
+    }
+    return indexNume.programe(q, limit);
   }
 
   @PostMapping
@@ -55,7 +101,12 @@ public class ProgramStudiuController {
     payload.setNume(program.getNume().trim());
     payload.setLocuriBuget(program.getLocuriBuget());
     payload.setLocuriTaxa(program.getLocuriTaxa());
-    return programStudiuRepository.save(payload);
+    ProgramStudiu saved = programStudiuRepository.save(payload);
+    versiuniTabele.modificat(Tabela.PROGRAM_STUDIU);
+    indexNume.programSalvat(saved);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
+    return saved;
   }
 
   @PutMapping("/{id}")
@@ -69,7 +120,12 @@ public class ProgramStudiuController {
     existing.setNume(program.getNume().trim());
     existing.setLocuriBuget(program.getLocuriBuget());
     existing.setLocuriTaxa(program.getLocuriTaxa());
-    return programStudiuRepository.save(existing);
+    ProgramStudiu saved = programStudiuRepository.save(existing);
+    versiuniTabele.modificat(Tabela.PROGRAM_STUDIU);
+    indexNume.programSalvat(saved);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
+    return saved;
   }
 
   @DeleteMapping("/{id}")
@@ -79,6 +135,14 @@ public class ProgramStudiuController {
       throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Program inexistent");
     }
     programStudiuRepository.deleteById(id);
+    versiuniTabele.modificat(Tabela.PROGRAM_STUDIU);
+    indexNume.programSters(id);
+    catalogReferinta.invalideaza();
+    modificariAdmitere.catalogModificat();
+  }
+
+  private static boolean inInterval(int valoare, Integer min, Integer max) {
+    return (min == null || valoare >= min) && (max == null || valoare <= max);
   }
 
   private boolean isBlank(String value) {
@@ -1,25 +1,21 @@
 package com.tudorverse.admitere_facultate_api.controller;
 
-import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.OcupareProgramResponse;
 import com.tudorverse.admitere_facultate_api.dto.RaportFacultateResponse;
 import com.tudorverse.admitere_facultate_api.dto.RaportInscrieriProgramResponse;
-import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
-import com.tudorverse.admitere_facultate_api.model.Optiune;
-import com.tudorverse.admitere_facultate_api.repository.OptiuneRepository;
-import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.service.CacheRapoarte;
 import com.tudorverse.admitere_facultate_api.service.ProcesareAdmitereService;
+import com.tudorverse.admitere_facultate_api.service.RaportRulare;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -28,30 +24,33 @@ import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
- * Rapoarte doar pentru citire pentru rezultatele procesarii admiterii.
+ * Rapoarte doar pentru citire pentru rezultatele procesarii admiterii, servite din agregatele
+ * publicate de ultima rulare ({@link com.tudorverse.admitere_facultate_api.service.RaportRulare}),
+ * fara acces la baza de date.
  */
 @RestController
 @RequestMapping("/api/admin/rapoarte")
 public class RapoarteController {
 
   private final ProcesareAdmitereService procesareAdmitereService;
-  private final ProgramStudiuRepository programStudiuRepository;
-  private final OptiuneRepository optiuneRepository;
+  private final CacheRapoarte cacheRapoarte;
 
   public RapoarteController(ProcesareAdmitereService procesareAdmitereService,
-      ProgramStudiuRepository programStudiuRepository,
-      OptiuneRepository optiuneRepository) {
+      CacheRapoarte cacheRapoarte) {
     this.procesareAdmitereService = procesareAdmitereService;
-    this.programStudiuRepository = programStudiuRepository;
-    this.optiuneRepository = optiuneRepository;
+    this.cacheRapoarte = cacheRapoarte;
   }
 
   @GetMapping("/inscrieri-program")
@@ -61,170 +60,151 @@ public class RapoarteController {
     return buildRaportInscrieriProgram(start, end);
   }
 
+  /**
+   * Exportul CSV, randat o data pe rulare si interval si servit din {@link CacheRapoarte}; un
+   * {@code If-None-Match} cu ETag-ul curent primeste 304 fara randare.
+   */
   @GetMapping("/inscrieri-program.csv")
-  public ResponseEntity<String> raportInscrieriProgramCsv(
+  public CompletableFuture<ResponseEntity<byte[]>> raportInscrieriProgramCsv(
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
-      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end) {
-    String csv = toCsv(buildRaportInscrieriProgram(start, end));
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION,
-            "attachment; filename=\"raport-inscrieri-program.csv\"")
-        .contentType(MediaType.parseMediaType("text/csv"))
-        .body(csv);
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end,
+      @RequestParam(defaultValue = "false") boolean gzip,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    RaportRulare raport = procesareAdmitereService.getRaport();
+    CacheRapoarte.Cheie cheie = new CacheRapoarte.Cheie(raport.rulareId(),
+        gzip ? "csv.gz" : "csv", start, end);
+    return dinCache(cheie, ifNoneMatch,
+        () -> ScriitorCsv.inMemorie(gzip,
+            csv -> scrieCsv(raport.inscrieriProgram(start, end), csv)),
+        raspuns -> ScriitorCsv.antetDescarcare(raspuns, "raport-inscrieri-program.csv", gzip));
   }
 
+  /**
+   * Raportul PDF, cu acelasi cache si aceleasi ETag-uri ca exportul CSV.
+   */
   @GetMapping("/inscrieri-program.pdf")
-  public ResponseEntity<byte[]> raportInscrieriProgramPdf(
+  public CompletableFuture<ResponseEntity<byte[]>> raportInscrieriProgramPdf(
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
-      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end)
-      throws IOException {
-    byte[] data = toPdf(buildRaportInscrieriProgram(start, end));
-    return ResponseEntity.ok()
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    RaportRulare raport = procesareAdmitereService.getRaport();
+    CacheRapoarte.Cheie cheie = new CacheRapoarte.Cheie(raport.rulareId(), "pdf", start, end);
+    return dinCache(cheie, ifNoneMatch, () -> {
+      try {
+        return toPdf(raport.inscrieriProgram(start, end));
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }, raspuns -> raspuns
         .header(HttpHeaders.CONTENT_DISPOSITION,
             "attachment; filename=\"raport-inscrieri-program.pdf\"")
-        .contentType(MediaType.APPLICATION_PDF)
-        .body(data);
+        .contentType(MediaType.APPLICATION_PDF));
   }
 
   @GetMapping("/rezultate-facultati")
   public List<RaportFacultateResponse> raportRezultateFacultati(
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
       @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end) {
-    List<RezultatAdmitereResponse> rezultate = filterByDate(
-        procesareAdmitereService.getUltimeleRezultate(), start, end);
-    if (rezultate.isEmpty()) {
-      return List.of();
-    }
-
-    Map<Long, ProgramStudiuResponse> programe = new HashMap<>();
-    Map<Long, String> facultateByProgram = new HashMap<>();
-    for (ProgramStudiuResponse program : programStudiuRepository.findAllWithFacultate()) {
-      programe.put(program.id(), program);
-      facultateByProgram.put(program.id(), program.facultateNume());
-    }
+    return procesareAdmitereService.getRaport().rezultateFacultati(start, end);
+  }
 
-    Map<String, RaportFacultateResponse> byFaculty = new TreeMap<>();
-    for (ProgramStudiuResponse program : programe.values()) {
-      byFaculty.putIfAbsent(program.facultateNume(),
-          new RaportFacultateResponse(program.facultateNume(), 0, 0));
-    }
+  /**
+   * Ultima medie admisa, pozitia ei in clasament si locurile ramase pe fiecare program,
+   * inregistrate la ultima rulare.
+   */
+  @GetMapping("/cutoff")
+  public List<OcupareProgramResponse> raportCutoff() {
+    return procesareAdmitereService.getOcuparePrograme();
+  }
 
-    Set<Long> respinsDosarIds = rezultate.stream()
-        .filter(result -> "RESPINS".equals(result.status()))
-        .map(RezultatAdmitereResponse::dosarId)
-        .collect(Collectors.toSet());
+  @GetMapping("/cutoff.csv")
+  public ResponseEntity<StreamingResponseBody> raportCutoffCsv(
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    List<OcupareProgramResponse> ocupare = procesareAdmitereService.getOcuparePrograme();
+    return ScriitorCsv.descarcare("raport-cutoff.csv", gzip,
+        csv -> scrieCutoffCsv(ocupare, csv));
+  }
 
-    Map<Long, String> respinsFacultate = new HashMap<>();
-    if (!respinsDosarIds.isEmpty()) {
-      List<Long> dosarIds = new ArrayList<>(respinsDosarIds);
-      List<Optiune> optiuni = optiuneRepository
-          .findByDosarIdInOrderByDosarIdAscPrioritateAsc(dosarIds);
-      for (Optiune optiune : optiuni) {
-        if (respinsFacultate.containsKey(optiune.getDosarId())) {
-          continue;
-        }
-        String facultate = facultateByProgram.get(optiune.getProgramId());
-        if (facultate != null) {
-          respinsFacultate.put(optiune.getDosarId(), facultate);
-        }
-      }
+  private CompletableFuture<ResponseEntity<byte[]>> dinCache(CacheRapoarte.Cheie cheie,
+      String ifNoneMatch, Supplier<byte[]> randeaza,
+      UnaryOperator<ResponseEntity.BodyBuilder> antet) {
+    if (cheie.rulareId() == 0) {
+      // Fara rulare, raportul urmeaza catalogul curent; nu este pastrat si nu primeste ETag.
+      return CompletableFuture.completedFuture(antet.apply(ResponseEntity.ok())
+          .body(randeaza.get()));
     }
-
-    for (RezultatAdmitereResponse rezultat : rezultate) {
-      if ("ADMIS".equals(rezultat.status()) && rezultat.facultateNume() != null) {
-        RaportFacultateResponse current = byFaculty.get(rezultat.facultateNume());
-        if (current == null) {
-          current = new RaportFacultateResponse(rezultat.facultateNume(), 0, 0);
-        }
-        byFaculty.put(rezultat.facultateNume(),
-            new RaportFacultateResponse(rezultat.facultateNume(),
-                current.admisi() + 1, current.respinsi()));
-      } else if ("RESPINS".equals(rezultat.status())) {
-        String facultate = respinsFacultate.get(rezultat.dosarId());
-        if (facultate == null) {
-          continue;
-        }
-        RaportFacultateResponse current = byFaculty.get(facultate);
-        if (current == null) {
-          current = new RaportFacultateResponse(facultate, 0, 0);
-        }
-        byFaculty.put(facultate,
-            new RaportFacultateResponse(facultate, current.admisi(),
-                current.respinsi() + 1));
-      }
+    String etag = cheie.etag();
+    if (nemodificat(ifNoneMatch, etag)) {
+      return CompletableFuture.completedFuture(
+          ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
     }
-
-    return new ArrayList<>(byFaculty.values());
+    CompletableFuture<byte[]> date;
+    try {
+      date = cacheRapoarte.obtine(cheie, randeaza);
+    } catch (RejectedExecutionException ex) {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+          "Prea multe rapoarte in curs de generare, reincercati");
+    }
+    return date.thenApply(continut -> antet.apply(ResponseEntity.ok().eTag(etag))
+        .body(continut));
   }
 
-  private List<RaportInscrieriProgramResponse> buildRaportInscrieriProgram(
-      LocalDate start, LocalDate end) {
-    List<RezultatAdmitereResponse> rezultate = filterByDate(
-        procesareAdmitereService.getUltimeleRezultate(), start, end);
-
-    Map<Long, Integer> inscrisiByProgram = new HashMap<>();
-    for (RezultatAdmitereResponse rezultat : rezultate) {
-      if (!"ADMIS".equals(rezultat.status()) || rezultat.programId() == null) {
-        continue;
-      }
-      inscrisiByProgram.merge(rezultat.programId(), 1, Integer::sum);
+  // If-None-Match poate contine o lista de ETag-uri sau "*"; comparatia este slaba (RFC 9110).
+  private static boolean nemodificat(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
     }
-
-    List<ProgramStudiuResponse> programe = programStudiuRepository.findAllWithFacultate();
-    List<RaportInscrieriProgramResponse> report = new ArrayList<>(programe.size());
-    for (ProgramStudiuResponse program : programe) {
-      int count = inscrisiByProgram.getOrDefault(program.id(), 0);
-      report.add(new RaportInscrieriProgramResponse(program.id(),
-          program.nume(), program.facultateNume(), count));
+    for (String valoare : ifNoneMatch.split(",")) {
+      String candidat = valoare.trim();
+      if (candidat.startsWith("W/")) {
+        candidat = candidat.substring(2);
+      }
+      if (candidat.equals("*") || candidat.equals(etag)) {
+        return true;
+      }
     }
-
-    report.sort(Comparator
-        .comparing(RaportInscrieriProgramResponse::facultateNume, String.CASE_INSENSITIVE_ORDER)
-        .thenComparing(RaportInscrieriProgramResponse::programNume, String.CASE_INSENSITIVE_ORDER));
-    return report;
+    return false;
   }
 
-  private List<RezultatAdmitereResponse> filterByDate(
-      List<RezultatAdmitereResponse> rezultate, LocalDate start, LocalDate end) {
-    if (start == null && end == null) {
-      return rezultate;
-    }
-    return rezultate.stream()
-        .filter(result -> {
-          LocalDate date = result.createdAt().toLocalDate();
-          if (start != null && date.isBefore(start)) {
-            return false;
-          }
-          if (end != null && date.isAfter(end)) {
-            return false;
-          }
-          return true;
-        })
-        .toList();
+  // Vizibila in pachet pentru RapoarteBenchmark.
+  List<RaportInscrieriProgramResponse> buildRaportInscrieriProgram(
+      LocalDate start, LocalDate end) {
+    return procesareAdmitereService.getRaport().inscrieriProgram(start, end);
   }
 
-  private String toCsv(List<RaportInscrieriProgramResponse> items) {
-    StringBuilder builder = new StringBuilder();
-    builder.append("program_id,program,facultate,inscrisi\n");
+  // Vizibila in pachet pentru RapoarteBenchmark.
+  void scrieCsv(List<RaportInscrieriProgramResponse> items, ScriitorCsv csv)
+      throws IOException {
+    csv.antet("program_id", "program", "facultate", "inscrisi");
     for (RaportInscrieriProgramResponse item : items) {
-      builder.append(item.programId()).append(',')
-          .append(escapeCsv(item.programNume())).append(',')
-          .append(escapeCsv(item.facultateNume())).append(',')
-          .append(item.inscrisi())
-          .append('\n');
+      csv.valoare(item.programId())
+          .text(item.programNume())
+          .text(item.facultateNume())
+          .valoare(item.inscrisi())
+          .rand();
     }
-    return builder.toString();
   }
 
-  private String escapeCsv(String value) {
-    if (value == null) {
-      return "";
+  private void scrieCutoffCsv(List<OcupareProgramResponse> items, ScriitorCsv csv)
+      throws IOException {
+    csv.antet("program_id", "program", "facultate", "locuri", "ocupate", "locuri_ramase",
+        "medie_ultimul_admis", "pozitie_ultimul_admis");
+    for (OcupareProgramResponse item : items) {
+      csv.valoare(item.programId())
+          .text(item.programNume())
+          .text(item.facultateNume())
+          .valoare(item.locuri())
+          .valoare(item.ocupate())
+          .valoare(item.locuriRamase())
+          .valoare(item.medieUltimulAdmis() == null
+              ? null : item.medieUltimulAdmis().toPlainString())
+          .valoare(item.pozitieUltimulAdmis())
+          .rand();
     }
-    String sanitized = value.replace("\"", "\"\"");
-    return "\"" + sanitized + "\"";
   }
 
-  private byte[] toPdf(List<RaportInscrieriProgramResponse> items) throws IOException {
+  // Vizibila in pachet pentru RapoarteBenchmark.
+  byte[] toPdf(List<RaportInscrieriProgramResponse> items) throws IOException {
     try (PDDocument document = new PDDocument()) {
       PDPage page = new PDPage(PDRectangle.A4);
       document.addPage(page);
@@ -1,11 +1,23 @@
 package com.tudorverse.admitere_facultate_api.controller;
 
 import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.RulareAdmitereResponse;
 import com.tudorverse.admitere_facultate_api.service.ProcesareAdmitereService;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Endpoint-uri doar pentru citire pentru vizualizarea rezultatelor procesate.
@@ -15,13 +27,102 @@ import org.springframework.web.bind.annotation.RestController;
 public class RezultateAdmitereController {
 
   private final ProcesareAdmitereService procesareAdmitereService;
+  private final ObjectMapper objectMapper;
 
-  public RezultateAdmitereController(ProcesareAdmitereService procesareAdmitereService) {
+  public RezultateAdmitereController(ProcesareAdmitereService procesareAdmitereService,
+      ObjectMapper objectMapper) {
     this.procesareAdmitereService = procesareAdmitereService;
+    this.objectMapper = objectMapper;
   }
 
+  /**
+   * Ultimele rezultate, in ordinea clasamentului; cu {@code start}/{@code end}, doar dosarele
+   * create in interval, ordonate dupa data.
+   */
   @GetMapping
-  public List<RezultatAdmitereResponse> list() {
-    return procesareAdmitereService.getUltimeleRezultate();
+  public List<RezultatAdmitereResponse> list(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end) {
+    return procesareAdmitereService.getUltimeleRezultate(start, end);
+  }
+
+  /**
+   * Ca {@link #list}, ca NDJSON scris din rezultatele publicate.
+   */
+  @GetMapping(produces = FluxJson.NDJSON)
+  public ResponseEntity<StreamingResponseBody> listNdjson(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end) {
+    return FluxJson.ndjson(objectMapper,
+        procesareAdmitereService.getUltimeleRezultate(start, end)::forEach);
+  }
+
+  /**
+   * Ca {@link #list}, ca tablou JSON scris in flux din rezultatele publicate.
+   */
+  @GetMapping(produces = FluxJson.TABLOU)
+  public ResponseEntity<StreamingResponseBody> listFlux(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end) {
+    return FluxJson.tablou(objectMapper,
+        procesareAdmitereService.getUltimeleRezultate(start, end)::forEach);
+  }
+
+  /**
+   * Exportul CSV al ultimelor rezultate, cu aceleasi filtre ca {@link #list}, scris rand cu
+   * rand din rezultatele publicate.
+   */
+  @GetMapping("/export.csv")
+  public ResponseEntity<StreamingResponseBody> exportCsv(
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate start,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate end,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    List<RezultatAdmitereResponse> rezultate =
+        procesareAdmitereService.getUltimeleRezultate(start, end);
+    return ScriitorCsv.descarcare("rezultate-admitere.csv", gzip,
+        csv -> scrieCsv(rezultate, csv));
+  }
+
+  /**
+   * Listeaza rularile salvate, cele mai recente primele.
+   */
+  @GetMapping("/rulari")
+  public List<RulareAdmitereResponse> listRulari() {
+    return procesareAdmitereService.listeazaRulari();
+  }
+
+  @GetMapping("/rulari/{id}")
+  public RulareAdmitereResponse getRulare(@PathVariable Long id) {
+    return procesareAdmitereService.gasesteRulare(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rulare inexistenta"));
+  }
+
+  /**
+   * Rezultatele unei rulari anterioare, in ordinea clasamentului.
+   */
+  @GetMapping("/rulari/{id}/rezultate")
+  public List<RezultatAdmitereResponse> listRezultateRulare(@PathVariable Long id) {
+    return procesareAdmitereService.rezultateRulare(id)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rulare inexistenta"));
+  }
+
+  private void scrieCsv(List<RezultatAdmitereResponse> rezultate, ScriitorCsv csv)
+      throws IOException {
+    csv.antet("dosar_id", "candidat_id", "nume", "prenume", "medie", "created_at", "status",
+        "program_id", "program", "facultate", "prioritate");
+    for (RezultatAdmitereResponse rezultat : rezultate) {
+      csv.valoare(rezultat.dosarId())
+          .valoare(rezultat.candidatId())
+          .text(rezultat.candidatNume())
+          .text(rezultat.candidatPrenume())
+          .valoare(rezultat.medie() == null ? null : rezultat.medie().toPlainString())
+          .valoare(rezultat.createdAt())
+          .valoare(rezultat.status())
+          .valoare(rezultat.programId())
+          .text(rezultat.programNume())
+          .text(rezultat.facultateNume())
+          .valoare(rezultat.prioritate())
+          .rand();
+    }
   }
 }
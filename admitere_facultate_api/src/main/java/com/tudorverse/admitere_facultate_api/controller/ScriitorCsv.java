@@ -0,0 +1,137 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Scrie un CSV rand cu rand direct in fluxul raspunsului, printr-un buffer de dimensiune fixa
+ * si optional comprimat gzip, deci memoria nu depinde de numarul de randuri, iar primii
+ * octeti pleaca dupa primul buffer umplut. Textele sunt puse intre ghilimele, valorile null
+ * raman goale.
+ */
+final class ScriitorCsv {
+
+  private static final int BUFFER = 64 * 1024;
+
+  private final Writer writer;
+  private final GZIPOutputStream gzip;
+  private boolean inceputRand = true;
+
+  ScriitorCsv(OutputStream output, boolean comprimat) throws IOException {
+    this.gzip = comprimat ? new GZIPOutputStream(output, BUFFER) : null;
+    this.writer = new BufferedWriter(new OutputStreamWriter(
+        comprimat ? gzip : output, StandardCharsets.UTF_8), BUFFER);
+  }
+
+  /**
+   * Continutul unui export, scris prin {@link ScriitorCsv}.
+   */
+  @FunctionalInterface
+  interface Continut {
+    void scrie(ScriitorCsv csv) throws IOException;
+  }
+
+  /**
+   * Raspuns de descarcare care scrie continutul in timpul transmiterii; cu {@code gzip}
+   * fisierul este livrat comprimat, ca {@code .csv.gz}.
+   */
+  static ResponseEntity<StreamingResponseBody> descarcare(String fisier, boolean gzip,
+      Continut continut) {
+    StreamingResponseBody body = output -> {
+      ScriitorCsv csv = new ScriitorCsv(output, gzip);
+      continut.scrie(csv);
+      csv.termina();
+    };
+    return antetDescarcare(ResponseEntity.ok(), fisier, gzip).body(body);
+  }
+
+  /**
+   * Scrie tot continutul in memorie, pentru exporturile pastrate in cache.
+   */
+  static byte[] inMemorie(boolean gzip, Continut continut) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try {
+      ScriitorCsv csv = new ScriitorCsv(output, gzip);
+      continut.scrie(csv);
+      csv.termina();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Numele fisierului si tipul continutului unei descarcari CSV, simplu sau {@code .csv.gz}.
+   */
+  static ResponseEntity.BodyBuilder antetDescarcare(ResponseEntity.BodyBuilder raspuns,
+      String fisier, boolean gzip) {
+    return raspuns
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"" + fisier + (gzip ? ".gz" : "") + "\"")
+        .contentType(gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.parseMediaType("text/csv;charset=UTF-8"));
+  }
+
+  /**
+   * Scrie un rand de antet sau de valori deja formatate, fara ghilimele.
+   */
+  void antet(String... coloane) throws IOException {
+    for (String coloana : coloane) {
+      separa();
+      writer.write(coloana);
+    }
+    rand();
+  }
+
+  ScriitorCsv text(String value) throws IOException {
+    separa();
+    if (value != null) {
+      writer.write('"');
+      writer.write(value.replace("\"", "\"\""));
+      writer.write('"');
+    }
+    return this;
+  }
+
+  ScriitorCsv valoare(Object value) throws IOException {
+    separa();
+    if (value != null) {
+      writer.write(value.toString());
+    }
+    return this;
+  }
+
+  void rand() throws IOException {
+    writer.write('\n');
+    inceputRand = true;
+  }
+
+  /**
+   * Goleste bufferul si incheie fluxul gzip; fluxul raspunsului ramane deschis.
+   */
+  void termina() throws IOException {
+    writer.flush();
+    if (gzip != null) {
+      gzip.finish();
+    }
+  }
+
+  private void separa() throws IOException {
+    if (!inceputRand) {
+      writer.write(',');
+    }
+    inceputRand = false;
+  }
+}
@@ -0,0 +1,45 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriResponse;
+import com.tudorverse.admitere_facultate_api.dto.SimulareLocuriRequest;
+import com.tudorverse.admitere_facultate_api.service.SimulareLocuriService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Endpoint pentru simularea alocarii cu alte numere de locuri, fara a modifica programele.
+ */
+@RestController
+@RequestMapping("/api/admin/simulare")
+public class SimulareLocuriController {
+
+  private final SimulareLocuriService simulareLocuriService;
+
+  public SimulareLocuriController(SimulareLocuriService simulareLocuriService) {
+    this.simulareLocuriService = simulareLocuriService;
+  }
+
+  @PostMapping
+  public List<ScenariuLocuriResponse> simuleaza(@RequestBody SimulareLocuriRequest request) {
+    if (request == null || request.scenarii() == null || request.scenarii().isEmpty()
+        || request.scenarii().contains(null)) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Scenarii lipsa");
+    }
+    if (request.scenarii().size() > SimulareLocuriService.LIMITA_SCENARII) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+          "Maxim " + SimulareLocuriService.LIMITA_SCENARII + " scenarii per cerere");
+    }
+    try {
+      return simulareLocuriService.simuleaza(request.scenarii());
+    } catch (IllegalStateException ex) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage());
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+  }
+}
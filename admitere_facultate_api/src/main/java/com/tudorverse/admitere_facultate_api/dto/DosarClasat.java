@@ -0,0 +1,12 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Proiectie compacta a unui dosar validat pentru clasament: numele candidatului si programele
+ * optiunilor ordonate dupa prioritate.
+ */
+public record DosarClasat(Long id, Long candidatId, String candidatNume, String candidatPrenume,
+    BigDecimal medie, OffsetDateTime createdAt, long[] programIds, int[] prioritati) {
+}
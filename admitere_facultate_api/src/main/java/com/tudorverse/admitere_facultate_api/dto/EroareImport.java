@@ -0,0 +1,7 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+/**
+ * Un rand respins la import: numarul lui (de la 1, fara antet si linii goale) si motivul.
+ */
+public record EroareImport(int rand, String mesaj) {
+}
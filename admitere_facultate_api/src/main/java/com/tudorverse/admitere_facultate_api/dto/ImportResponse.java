@@ -0,0 +1,11 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.util.List;
+
+/**
+ * Rezultatul unui import in masa: randurile citite, cele importate, id-urile create in ordinea
+ * randurilor (null pentru un rand respins) si motivul fiecarui rand respins.
+ */
+public record ImportResponse(int randuri, int importate, List<Long> ids,
+    List<EroareImport> erori) {
+}
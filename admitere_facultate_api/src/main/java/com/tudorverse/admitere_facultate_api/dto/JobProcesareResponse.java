@@ -0,0 +1,12 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Starea unui job asincron de procesare a admiterii: faza curenta, progresul in faza si,
+ * la final, rezumatul rezultatelor sau eroarea.
+ */
+public record JobProcesareResponse(String id, String faza, int procesate, int total,
+    boolean anulareCeruta, OffsetDateTime pornit, OffsetDateTime terminat,
+    ProcesareAdmitereResponse rezultat, String eroare) {
+}
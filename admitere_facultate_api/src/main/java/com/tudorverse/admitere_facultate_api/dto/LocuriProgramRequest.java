@@ -0,0 +1,7 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+/**
+ * Locurile suprascrise pentru un program; un camp null pastreaza valoarea curenta.
+ */
+public record LocuriProgramRequest(Long programId, Integer locuriBuget, Integer locuriTaxa) {
+}
@@ -0,0 +1,12 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Ocuparea unui program dupa alocare: locuri, admisi, media ultimului admis si pozitia lui
+ * in clasament (numerotata de la 1); ultimele doua sunt null daca nu exista admisi.
+ */
+public record OcupareProgramResponse(Long programId, String programNume, String facultateNume,
+    int locuri, int ocupate, int locuriRamase, BigDecimal medieUltimulAdmis,
+    Integer pozitieUltimulAdmis) {
+}
@@ -2,7 +2,9 @@ package com.tudorverse.admitere_facultate_api.dto;
 
 /**
  * Rezumatul rezultatelor procesarii admiterii returnat la declansare de admin.
+ * {@code pozitiiReluate} arata cate pozitii din clasament au fost realocate, iar
+ * {@code rulareId} identifica rularea salvata.
  */
 public record ProcesareAdmitereResponse(int dosareProcesate, int dosareAdmise,
-    int dosareNealocate) {
+    int dosareNealocate, boolean incremental, int pozitiiReluate, Long rulareId) {
 }
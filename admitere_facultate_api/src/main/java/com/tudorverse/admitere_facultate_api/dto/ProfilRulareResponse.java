@@ -0,0 +1,13 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Profilul unei rulari de procesare: rezultatul (FINALIZAT, ANULAT sau ESUAT), durata totala
+ * si durata fiecarei faze in milisecunde, in ordinea in care au rulat.
+ */
+public record ProfilRulareResponse(OffsetDateTime pornit, String rezultat, boolean incremental,
+    double durataMs, int dosareProcesate, int dosareAdmise, int dosareNealocate,
+    Map<String, Double> fazeMs) {
+}
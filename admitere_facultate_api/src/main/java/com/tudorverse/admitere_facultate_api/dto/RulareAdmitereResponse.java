@@ -0,0 +1,11 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Descrierea unei rulari de procesare pastrate: momentul, versiunea datelor de intrare
+ * si rezumatul rezultatelor.
+ */
+public record RulareAdmitereResponse(Long id, OffsetDateTime creatLa, long versiuneDate,
+    boolean incremental, int dosareProcesate, int dosareAdmise, int dosareNealocate) {
+}
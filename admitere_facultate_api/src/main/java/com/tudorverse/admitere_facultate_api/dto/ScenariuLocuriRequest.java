@@ -0,0 +1,10 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.util.List;
+
+/**
+ * Un scenariu de simulare: locurile suprascrise pentru unele programe; restul programelor
+ * raman cu locurile din ultima rulare.
+ */
+public record ScenariuLocuriRequest(String nume, List<LocuriProgramRequest> locuri) {
+}
@@ -0,0 +1,10 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.util.List;
+
+/**
+ * Rezultatul unui scenariu de simulare: totalurile si ocuparea fiecarui program.
+ */
+public record ScenariuLocuriResponse(String nume, int dosareAdmise, int dosareNealocate,
+    List<OcupareProgramResponse> programe) {
+}
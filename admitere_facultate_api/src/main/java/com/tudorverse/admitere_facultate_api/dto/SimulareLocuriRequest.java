@@ -0,0 +1,9 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+import java.util.List;
+
+/**
+ * Payload pentru simularea alocarii: un lot de scenarii evaluate independent.
+ */
+public record SimulareLocuriRequest(List<ScenariuLocuriRequest> scenarii) {
+}
@@ -0,0 +1,7 @@
+package com.tudorverse.admitere_facultate_api.dto;
+
+/**
+ * O sugestie de autocompletare: id-ul si numele unei facultati sau al unui program de studiu.
+ */
+public record SugestieResponse(Long id, String nume) {
+}
@@ -1,14 +1,19 @@
 package com.tudorverse.admitere_facultate_api.error;
 
+import com.tudorverse.admitere_facultate_api.service.ProcesareAnulataException;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
- * Handler global de erori care normalizeaza incalcarile de constrangeri din DB.
+ * Handler global de erori care normalizeaza incalcarile de constrangeri din DB,
+ * respingerile pool-urilor marginite si procesarile anulate.
  */
 @RestControllerAdvice
 public class ApiExceptionHandler {
@@ -19,4 +24,19 @@ public class ApiExceptionHandler {
   public Map<String, String> handleDataIntegrityViolation() {
     return Map.of("error", "Date invalide sau duplicate");
   }
+
+  // Un pool marginit (de exemplu hash-uirea parolelor) are coada plina; clientul poate reveni.
+  @ExceptionHandler(RejectedExecutionException.class)
+  public ResponseEntity<Map<String, String>> handleRejectedExecution() {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(Map.of("error", "Server ocupat, reincercati"));
+  }
+
+  // Un apel sincron atasat la o rulare partajata, anulata de jobul cu care o impartea.
+  @ExceptionHandler(ProcesareAnulataException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public Map<String, String> handleProcesareAnulata() {
+    return Map.of("error", "Procesarea a fost anulata");
+  }
 }
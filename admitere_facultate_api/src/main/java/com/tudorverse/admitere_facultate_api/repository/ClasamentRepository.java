@@ -0,0 +1,126 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.dto.DosarClasat;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Citiri JDBC pentru clasamentul admiterii: dosarele validate vin deja ordonate din baza de
+ * date, impreuna cu numele candidatului si optiunile lor, intr-o singura interogare citita
+ * printr-un cursor forward-only, fara entitati gestionate.
+ */
+@Repository
+public class ClasamentRepository {
+
+  // Ordinea clasamentului (medie desc, created_at asc, id asc), apoi prioritatea optiunii.
+  private static final String SELECT_DOSARE = """
+      select d.id, d.candidat_id, coalesce(c.nume, ''), coalesce(c.prenume, ''),
+        d.medie, d.created_at, o.program_id, o.prioritate
+      from dosar d
+      left join candidat c on c.id = d.candidat_id
+      left join optiune o on o.dosar_id = d.id
+      where d.status = 'VALIDAT' and d.medie is not null
+      """;
+  private static final String ORDINE = """
+      order by d.medie desc, d.created_at asc, d.id asc, o.prioritate asc
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int fetchSize;
+
+  public ClasamentRepository(JdbcTemplate jdbcTemplate,
+      @Value("${admitere.procesare.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Parcurge toate dosarele validate cu medie in ordinea clasamentului. Cursorul este
+   * deschis doar intr-o tranzactie (PostgreSQL ignora fetch size in autocommit).
+   */
+  public void parcurgeDosareValidate(Consumer<DosarClasat> consumer) {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_DOSARE + ORDINE,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      return statement;
+    }, new GrupareDosare(consumer));
+  }
+
+  /**
+   * Returneaza, in ordinea clasamentului, dosarele validate cu medie dintre id-urile date.
+   */
+  public List<DosarClasat> findValidateByIds(Collection<Long> dosarIds) {
+    List<DosarClasat> dosare = new ArrayList<>();
+    if (dosarIds.isEmpty()) {
+      return dosare;
+    }
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(
+          SELECT_DOSARE + " and d.id = any(?)\n" + ORDINE);
+      Array ids = connection.createArrayOf("bigint", dosarIds.toArray());
+      statement.setArray(1, ids);
+      return statement;
+    }, new GrupareDosare(dosare::add));
+    return dosare;
+  }
+
+  /**
+   * Grupeaza randurile consecutive ale aceluiasi dosar (unul per optiune) intr-un singur
+   * {@link DosarClasat} si il trimite mai departe imediat ce dosarul se incheie.
+   */
+  private static final class GrupareDosare implements ResultSetExtractor<Void> {
+
+    private final Consumer<DosarClasat> consumer;
+
+    private GrupareDosare(Consumer<DosarClasat> consumer) {
+      this.consumer = consumer;
+    }
+
+    @Override
+    public Void extractData(ResultSet rs) throws SQLException {
+      long[] programIds = new long[4];
+      int[] prioritati = new int[4];
+      boolean areRand = rs.next();
+      while (areRand) {
+        long id = rs.getLong(1);
+        long candidatId = rs.getLong(2);
+        String nume = rs.getString(3);
+        String prenume = rs.getString(4);
+        BigDecimal medie = rs.getBigDecimal(5);
+        OffsetDateTime createdAt = rs.getObject(6, OffsetDateTime.class);
+        int optiuni = 0;
+        do {
+          long programId = rs.getLong(7);
+          if (!rs.wasNull()) {
+            if (optiuni == programIds.length) {
+              programIds = Arrays.copyOf(programIds, optiuni * 2);
+              prioritati = Arrays.copyOf(prioritati, optiuni * 2);
+            }
+            programIds[optiuni] = programId;
+            prioritati[optiuni] = rs.getInt(8);
+            optiuni++;
+          }
+          areRand = rs.next();
+        } while (areRand && rs.getLong(1) == id);
+
+        consumer.accept(new DosarClasat(id, candidatId, nume, prenume, medie, createdAt,
+            Arrays.copyOf(programIds, optiuni), Arrays.copyOf(prioritati, optiuni)));
+      }
+      return null;
+    }
+  }
+}
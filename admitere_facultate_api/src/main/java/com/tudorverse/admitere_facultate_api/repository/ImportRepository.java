@@ -0,0 +1,108 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.model.Dosar;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Scrieri JDBC pentru importul in masa. Id-urile sunt rezervate din secventa tabelei pentru
+ * tot lotul cu o singura interogare, apoi randurile sunt inserate cu id-ul explicit in loturi
+ * JDBC; cu {@code reWriteBatchedInserts} fiecare lot devine un singur insert cu mai multe
+ * randuri. Fiecare metoda de inserare primeste un lot intreg; metodele trebuie apelate
+ * intr-o tranzactie de scriere.
+ */
+@Repository
+public class ImportRepository {
+
+  private static final String ALOCA_IDS = """
+      select nextval(pg_get_serial_sequence(?, 'id')) from generate_series(1, ?)
+      """;
+  private static final String INSERT_CANDIDAT = """
+      insert into candidat (id, nume, prenume, email, parola_hash) values (?, ?, ?, ?, ?)
+      """;
+  private static final String INSERT_DOSAR = """
+      insert into dosar (id, candidat_id, status, medie) values (?, ?, ?, ?)
+      """;
+  private static final String INSERT_OPTIUNE = """
+      insert into optiune (id, dosar_id, program_id, prioritate) values (?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ImportRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Rezerva {@code numar} id-uri noi din secventa tabelei ("candidat", "dosar" sau "optiune").
+   */
+  public long[] alocaIds(String tabela, int numar) {
+    return jdbcTemplate.queryForList(ALOCA_IDS, Long.class, tabela, numar).stream()
+        .mapToLong(Long::longValue)
+        .toArray();
+  }
+
+  /**
+   * Email-urile date care apartin deja unui candidat.
+   */
+  public Set<String> emailuriExistente(Collection<String> emailuri) {
+    return new HashSet<>(jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(
+          "select email from candidat where email = any(?)");
+      statement.setArray(1, connection.createArrayOf("text", emailuri.toArray()));
+      return statement;
+    }, (rs, i) -> rs.getString(1)));
+  }
+
+  /**
+   * Id-urile date care exista in tabela ("candidat" sau "dosar").
+   */
+  public Set<Long> idsExistente(String tabela, Collection<Long> ids) {
+    if (!"candidat".equals(tabela) && !"dosar".equals(tabela)) {
+      throw new IllegalArgumentException("Tabela necunoscuta: " + tabela);
+    }
+    return new HashSet<>(jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(
+          "select id from " + tabela + " where id = any(?)");
+      statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+      return statement;
+    }, (rs, i) -> rs.getLong(1)));
+  }
+
+  public void insereazaCandidati(List<Candidat> candidati) {
+    jdbcTemplate.batchUpdate(INSERT_CANDIDAT, candidati, candidati.size(),
+        (statement, candidat) -> {
+          statement.setLong(1, candidat.getId());
+          statement.setString(2, candidat.getNume());
+          statement.setString(3, candidat.getPrenume());
+          statement.setString(4, candidat.getEmail());
+          statement.setString(5, candidat.getParolaHash());
+        });
+  }
+
+  public void insereazaDosare(List<Dosar> dosare) {
+    jdbcTemplate.batchUpdate(INSERT_DOSAR, dosare, dosare.size(), (statement, dosar) -> {
+      statement.setLong(1, dosar.getId());
+      statement.setLong(2, dosar.getCandidatId());
+      statement.setString(3, dosar.getStatus());
+      statement.setObject(4, dosar.getMedie(), Types.NUMERIC);
+    });
+  }
+
+  public void insereazaOptiuni(List<Optiune> optiuni) {
+    jdbcTemplate.batchUpdate(INSERT_OPTIUNE, optiuni, optiuni.size(), (statement, optiune) -> {
+      statement.setLong(1, optiune.getId());
+      statement.setLong(2, optiune.getDosarId());
+      statement.setLong(3, optiune.getProgramId());
+      statement.setInt(4, optiune.getPrioritate());
+    });
+  }
+}
@@ -0,0 +1,53 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Imparte cautarile {@code where id in (...)} in loturi de dimensiune fixa. Fiecare id este
+ * un parametru JDBC, iar PostgreSQL accepta cel mult 32767 per instructiune; loturile sunt
+ * completate pana la o putere a lui 2 (repetand ultimul id), astfel incat baza de date vede
+ * doar cateva forme de instructiune si planurile pot fi refolosite.
+ */
+public final class IncarcarePeLoturi {
+
+  public static final int DIMENSIUNE_LOT = 1024;
+
+  private IncarcarePeLoturi() {
+  }
+
+  /**
+   * Apeleaza {@code incarcare} pentru fiecare lot de id-uri, in ordinea crescatoare a id-urilor,
+   * si concateneaza rezultatele. Id-urile duplicate si null sunt ignorate.
+   */
+  public static <T> List<T> incarca(Collection<Long> ids,
+      Function<List<Long>, ? extends Collection<T>> incarcare) {
+    long[] sortate = ids.stream()
+        .filter(id -> id != null)
+        .mapToLong(Long::longValue)
+        .sorted()
+        .distinct()
+        .toArray();
+    List<T> rezultate = new ArrayList<>();
+    for (int start = 0; start < sortate.length; start += DIMENSIUNE_LOT) {
+      int end = Math.min(start + DIMENSIUNE_LOT, sortate.length);
+      rezultate.addAll(incarcare.apply(lot(sortate, start, end)));
+    }
+    return rezultate;
+  }
+
+  private static List<Long> lot(long[] ids, int start, int end) {
+    int dimensiune = Integer.highestOneBit(end - start - 1) << 1;
+    dimensiune = Math.max(1, Math.min(dimensiune, DIMENSIUNE_LOT));
+    List<Long> lot = new ArrayList<>(dimensiune);
+    for (int i = start; i < end; i++) {
+      lot.add(ids[i]);
+    }
+    while (lot.size() < dimensiune) {
+      lot.add(ids[end - 1]);
+    }
+    return lot;
+  }
+}
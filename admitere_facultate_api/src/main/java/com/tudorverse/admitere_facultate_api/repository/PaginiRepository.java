@@ -0,0 +1,175 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.dto.DosarResponse;
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Pagini ordonate dupa id pentru listele administrate, cu paginare keyset ({@code id > after}
+ * si {@code limit}): fiecare pagina este o parcurgere scurta a cheii primare, indiferent cat de
+ * departe este in tabela. Interogarile ruleaza in tranzactii doar pentru citire.
+ *
+ * <p>Numarul total de randuri este o estimare a planificatorului PostgreSQL, pastrata in
+ * memorie un interval configurabil, ca listele sa nu faca {@code count(*)} la fiecare pagina.
+ */
+@Repository
+public class PaginiRepository {
+
+  // Tabelele pentru care se poate cere o estimare.
+  private static final Set<String> TABELE =
+      Set.of("facultate", "program_studiu", "candidat", "dosar", "optiune");
+  private static final String SELECT_DOSARE = """
+      select d.id, d.candidat_id, c.nume, c.prenume, d.status, d.medie, d.created_at
+      from dosar d
+      join candidat c on c.id = d.candidat_id
+      where d.id > ?
+      order by d.id
+      limit ?
+      """;
+  private static final String SELECT_OPTIUNI = """
+      select id, dosar_id, program_id, prioritate
+      from optiune
+      where id > ?
+      order by id
+      limit ?
+      """;
+  private static final String SELECT_FACULTATI = """
+      select id, nume
+      from facultate
+      where id > ?
+      order by id
+      limit ?
+      """;
+  // Filtrele optionale sunt adaugate inainte de "order by".
+  private static final String SELECT_CANDIDATI = """
+      select id, nume, prenume, email, parola_hash
+      from candidat
+      where id > ?
+      """;
+  // reltuples este -1 pentru o tabela neanalizata inca; atunci se numara exact.
+  private static final String SELECT_ESTIMARE = """
+      select reltuples::bigint from pg_class where oid = to_regclass(?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate tranzactieCitire;
+  private final long estimareNano;
+  private final Map<String, Estimare> estimari = new ConcurrentHashMap<>();
+
+  public PaginiRepository(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${admitere.liste.estimare-ms:60000}") long estimareMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.tranzactieCitire = new TransactionTemplate(transactionManager);
+    this.tranzactieCitire.setReadOnly(true);
+    this.estimareNano = estimareMs * 1_000_000;
+  }
+
+  /**
+   * Dosarele cu id mai mare decat {@code after}, cu numele candidatului.
+   */
+  public List<DosarResponse> dosare(long after, int limit) {
+    return pagina(SELECT_DOSARE, (rs, i) -> ParcurgereRepository.dosar(rs), after, limit);
+  }
+
+  /**
+   * Optiunile cu id mai mare decat {@code after}.
+   */
+  public List<Optiune> optiuni(long after, int limit) {
+    return pagina(SELECT_OPTIUNI, (rs, i) -> ParcurgereRepository.optiune(rs), after, limit);
+  }
+
+  /**
+   * Facultatile cu id mai mare decat {@code after}.
+   */
+  public List<Facultate> facultati(long after, int limit) {
+    return pagina(SELECT_FACULTATI, (rs, i) -> {
+      Facultate facultate = new Facultate();
+      facultate.setId(rs.getLong(1));
+      facultate.setNume(rs.getString(2));
+      return facultate;
+    }, after, limit);
+  }
+
+  /**
+   * Candidatii cu id mai mare decat {@code after}, filtrati ca
+   * {@link CandidatRepository#search}; filtrele null nu limiteaza, cele date sunt deja in
+   * litere mici.
+   */
+  public List<Candidat> candidati(long after, int limit, String nume, String prenume,
+      String email) {
+    StringBuilder sql = new StringBuilder(SELECT_CANDIDATI);
+    List<Object> argumente = new ArrayList<>();
+    argumente.add(after);
+    filtru(sql, argumente, "nume", nume);
+    filtru(sql, argumente, "prenume", prenume);
+    filtru(sql, argumente, "email", email);
+    sql.append("order by id\nlimit ?\n");
+    argumente.add(limit);
+    return tranzactieCitire.execute(status -> jdbcTemplate.query(sql.toString(), (rs, i) -> {
+      Candidat candidat = new Candidat();
+      candidat.setId(rs.getLong(1));
+      candidat.setNume(rs.getString(2));
+      candidat.setPrenume(rs.getString(3));
+      candidat.setEmail(rs.getString(4));
+      candidat.setParolaHash(rs.getString(5));
+      return candidat;
+    }, argumente.toArray()));
+  }
+
+  /**
+   * Numarul aproximativ de randuri din tabela, din cache daca estimarea este recenta.
+   */
+  public long estimare(String tabela) {
+    if (!TABELE.contains(tabela)) {
+      throw new IllegalArgumentException("Tabela necunoscuta: " + tabela);
+    }
+    long acum = System.nanoTime();
+    Estimare estimare = estimari.get(tabela);
+    if (estimare == null || acum - estimare.calculata() > estimareNano) {
+      estimare = new Estimare(numara(tabela), acum);
+      estimari.put(tabela, estimare);
+    }
+    return estimare.randuri();
+  }
+
+  private long numara(String tabela) {
+    return tranzactieCitire.execute(status -> {
+      Long estimat = jdbcTemplate.query(SELECT_ESTIMARE,
+          rs -> rs.next() ? rs.getLong(1) : null, tabela);
+      if (estimat != null && estimat >= 0) {
+        return estimat;
+      }
+      // Numele este unul din TABELE.
+      return jdbcTemplate.queryForObject("select count(*) from " + tabela, Long.class);
+    });
+  }
+
+  private <T> List<T> pagina(String sql, RowMapper<T> mapper, long after, int limit) {
+    return tranzactieCitire.execute(status -> jdbcTemplate.query(sql, mapper, after, limit));
+  }
+
+  private static void filtru(StringBuilder sql, List<Object> argumente, String coloana,
+      String valoare) {
+    if (valoare != null) {
+      sql.append("  and lower(").append(coloana).append(") like ?\n");
+      argumente.add("%" + valoare.toLowerCase(Locale.ROOT) + "%");
+    }
+  }
+
+  private record Estimare(long randuri, long calculata) {
+  }
+}
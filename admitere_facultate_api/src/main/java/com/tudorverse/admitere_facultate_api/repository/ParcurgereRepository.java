@@ -0,0 +1,118 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.dto.DosarResponse;
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Parcurgeri JDBC cu cursor forward-only pentru listarile in flux: fiecare rand este trimis
+ * consumatorului imediat, fara entitati gestionate si fara a tine lista in memorie.
+ * Metodele isi deschid propria tranzactie doar pentru citire (PostgreSQL ignora fetch size in
+ * autocommit), deoarece sunt apelate din firul care scrie raspunsul.
+ */
+@Repository
+public class ParcurgereRepository {
+
+  private static final String SELECT_DOSARE = """
+      select d.id, d.candidat_id, c.nume, c.prenume, d.status, d.medie, d.created_at
+      from dosar d
+      join candidat c on c.id = d.candidat_id
+      order by d.id
+      """;
+  private static final String SELECT_CANDIDATI = """
+      select id, nume, prenume, email
+      from candidat
+      order by id
+      """;
+  private static final String SELECT_OPTIUNI = """
+      select id, dosar_id, program_id, prioritate
+      from optiune
+      order by id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate tranzactieCitire;
+  private final int fetchSize;
+
+  public ParcurgereRepository(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${admitere.procesare.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.tranzactieCitire = new TransactionTemplate(transactionManager);
+    this.tranzactieCitire.setReadOnly(true);
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Parcurge dosarele cu numele candidatului, sortate dupa id, ca
+   * {@link DosarRepository#findAllWithCandidat()}.
+   */
+  public void parcurgeDosare(Consumer<? super DosarResponse> consumer) {
+    parcurge(SELECT_DOSARE, rs -> consumer.accept(dosar(rs)));
+  }
+
+  /**
+   * Parcurge optiunile sortate dupa id; entitatile sunt create doar pentru serializare si nu
+   * sunt atasate unui context de persistenta.
+   */
+  public void parcurgeOptiuni(Consumer<? super Optiune> consumer) {
+    parcurge(SELECT_OPTIUNI, rs -> consumer.accept(optiune(rs)));
+  }
+
+  /**
+   * Parcurge candidatii sortati dupa id, fara hash-ul parolei; entitatile nu sunt atasate unui
+   * context de persistenta.
+   */
+  public void parcurgeCandidati(Consumer<? super Candidat> consumer) {
+    parcurge(SELECT_CANDIDATI, rs -> {
+      Candidat candidat = new Candidat();
+      candidat.setId(rs.getLong(1));
+      candidat.setNume(rs.getString(2));
+      candidat.setPrenume(rs.getString(3));
+      candidat.setEmail(rs.getString(4));
+      consumer.accept(candidat);
+    });
+  }
+
+  // Coloanele din SELECT_DOSARE; folosit si de PaginiRepository.
+  static DosarResponse dosar(ResultSet rs) throws SQLException {
+    return new DosarResponse(
+        rs.getLong(1),
+        rs.getLong(2),
+        rs.getString(3),
+        rs.getString(4),
+        rs.getString(5),
+        rs.getBigDecimal(6),
+        rs.getObject(7, OffsetDateTime.class));
+  }
+
+  // Coloanele din SELECT_OPTIUNI; folosit si de PaginiRepository.
+  static Optiune optiune(ResultSet rs) throws SQLException {
+    Optiune optiune = new Optiune();
+    optiune.setId(rs.getLong(1));
+    optiune.setDosarId(rs.getLong(2));
+    optiune.setProgramId(rs.getLong(3));
+    optiune.setPrioritate(rs.getInt(4));
+    return optiune;
+  }
+
+  private void parcurge(String sql, RowCallbackHandler handler) {
+    tranzactieCitire.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(sql,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      return statement;
+    }, handler));
+  }
+}
@@ -0,0 +1,170 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.RulareAdmitereResponse;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Scrieri si citiri JDBC pentru rularile de procesare pastrate si rezultatele lor.
+ * Rezultatele se insereaza in loturi JDBC; cu {@code reWriteBatchedInserts} driverul
+ * PostgreSQL trimite fiecare lot ca un singur insert cu mai multe randuri.
+ */
+@Repository
+public class RulareAdmitereRepository {
+
+  private static final int LOT_INSERARE = 1000;
+
+  private static final String SELECT_RULARE = """
+      select id, creat_la, versiune_date, incremental, dosare_procesate, dosare_admise,
+        dosare_nealocate
+      from rulare_admitere
+      """;
+  private static final String INSERT_REZULTAT = """
+      insert into rezultat_admitere (rulare_id, pozitie, dosar_id, candidat_id, candidat_nume,
+        candidat_prenume, medie, created_at, prioritate, status, program_id, program_nume,
+        facultate_nume)
+      values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String SELECT_REZULTATE = """
+      select dosar_id, candidat_id, candidat_nume, candidat_prenume, medie, created_at,
+        prioritate, status, program_id, program_nume, facultate_nume
+      from rezultat_admitere
+      where rulare_id = ?
+      order by pozitie
+      """;
+
+  private static final RowMapper<RulareAdmitereResponse> RULARE = (rs, rowNum) ->
+      new RulareAdmitereResponse(
+          rs.getLong(1),
+          rs.getObject(2, OffsetDateTime.class),
+          rs.getLong(3),
+          rs.getBoolean(4),
+          rs.getInt(5),
+          rs.getInt(6),
+          rs.getInt(7));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int fetchSize;
+  private final int rulariPastrate;
+
+  public RulareAdmitereRepository(JdbcTemplate jdbcTemplate,
+      @Value("${admitere.procesare.fetch-size:1000}") int fetchSize,
+      @Value("${admitere.rulari.pastrate:10}") int rulariPastrate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.fetchSize = fetchSize;
+    this.rulariPastrate = rulariPastrate;
+  }
+
+  /**
+   * Salveaza rularea si rezultatele ei, in ordinea data, si returneaza rularea creata.
+   * Trebuie apelata intr-o tranzactie de scriere, ca rularea sa apara doar completa.
+   */
+  public RulareAdmitereResponse salveaza(long versiuneDate, boolean incremental, int admise,
+      List<RezultatAdmitereResponse> rezultate) {
+    RulareAdmitereResponse rulare = jdbcTemplate.queryForObject("""
+        insert into rulare_admitere (versiune_date, incremental, dosare_procesate,
+          dosare_admise, dosare_nealocate)
+        values (?, ?, ?, ?, ?)
+        returning id, creat_la, versiune_date, incremental, dosare_procesate, dosare_admise,
+          dosare_nealocate
+        """, RULARE, versiuneDate, incremental, rezultate.size(), admise,
+        rezultate.size() - admise);
+
+    List<Integer> pozitii = new ArrayList<>(rezultate.size());
+    for (int i = 0; i < rezultate.size(); i++) {
+      pozitii.add(i);
+    }
+    long rulareId = rulare.id();
+    jdbcTemplate.batchUpdate(INSERT_REZULTAT, pozitii, LOT_INSERARE,
+        (statement, pozitie) -> seteazaRezultat(statement, rulareId, pozitie,
+            rezultate.get(pozitie)));
+    return rulare;
+  }
+
+  /**
+   * Sterge rularile mai vechi decat ultimele {@code admitere.rulari.pastrate}; rezultatele lor
+   * sunt sterse in cascada. Returneaza numarul de rulari sterse.
+   */
+  public int stergeVechi() {
+    return jdbcTemplate.update("""
+        delete from rulare_admitere
+        where id < (select min(id) from (
+          select id from rulare_admitere order by id desc limit ?) pastrate)
+        """, rulariPastrate);
+  }
+
+  public Optional<RulareAdmitereResponse> findUltima() {
+    return jdbcTemplate.query(SELECT_RULARE + " order by id desc limit 1", RULARE)
+        .stream()
+        .findFirst();
+  }
+
+  public Optional<RulareAdmitereResponse> findById(long id) {
+    return jdbcTemplate.query(SELECT_RULARE + " where id = ?", RULARE, id)
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Listeaza rularile, cele mai recente primele.
+   */
+  public List<RulareAdmitereResponse> findAll() {
+    return jdbcTemplate.query(SELECT_RULARE + " order by id desc", RULARE);
+  }
+
+  /**
+   * Incarca rezultatele rularii in ordinea clasamentului, printr-un cursor.
+   */
+  public List<RezultatAdmitereResponse> findRezultate(long rulareId) {
+    List<RezultatAdmitereResponse> rezultate = new ArrayList<>();
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_REZULTATE,
+          ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      statement.setLong(1, rulareId);
+      return statement;
+    }, (ResultSet rs) -> {
+      rezultate.add(new RezultatAdmitereResponse(
+          rs.getLong(1),
+          rs.getObject(2, Long.class),
+          rs.getString(3),
+          rs.getString(4),
+          rs.getBigDecimal(5),
+          rs.getObject(6, OffsetDateTime.class),
+          rs.getObject(7, Integer.class),
+          rs.getString(8),
+          rs.getObject(9, Long.class),
+          rs.getString(10),
+          rs.getString(11)));
+    });
+    return rezultate;
+  }
+
+  private static void seteazaRezultat(PreparedStatement statement, long rulareId, int pozitie,
+      RezultatAdmitereResponse rezultat) throws SQLException {
+    statement.setLong(1, rulareId);
+    statement.setInt(2, pozitie);
+    statement.setLong(3, rezultat.dosarId());
+    statement.setObject(4, rezultat.candidatId(), Types.BIGINT);
+    statement.setString(5, rezultat.candidatNume());
+    statement.setString(6, rezultat.candidatPrenume());
+    statement.setBigDecimal(7, rezultat.medie());
+    statement.setObject(8, rezultat.createdAt(), Types.TIMESTAMP_WITH_TIMEZONE);
+    statement.setObject(9, rezultat.prioritate(), Types.INTEGER);
+    statement.setString(10, rezultat.status());
+    statement.setObject(11, rezultat.programId(), Types.BIGINT);
+    statement.setString(12, rezultat.programNume());
+    statement.setString(13, rezultat.facultateNume());
+  }
+}
@@ -0,0 +1,132 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache pentru rapoartele randate (PDF, CSV), dupa rulare, format si interval. Rularile
+ * pastrate nu se modifica, deci o intrare nu trebuie invalidata; intrarile rularilor vechi
+ * ies prin evacuarea celor mai putin recent folosite cand se depaseste dimensiunea maxima.
+ *
+ * <p>Randarile lipsa ruleaza pe un pool mic si marginit, cu o coada marginita, ca un val de
+ * descarcari sa nu ocupe firele cererilor; cererile simultane pentru aceeasi cheie asteapta
+ * aceeasi randare.
+ */
+@Component
+public class CacheRapoarte {
+
+  private final long octetiMaxim;
+  private final ThreadPoolExecutor randare;
+  // Ordine de acces: primele sunt cele mai putin recent folosite.
+  private final Map<Cheie, CompletableFuture<byte[]>> intrari =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long octeti;
+
+  public CacheRapoarte(
+      @Value("${admitere.rapoarte.cache-octeti:67108864}") long octetiMaxim,
+      @Value("${admitere.rapoarte.randare.fire:2}") int fire,
+      @Value("${admitere.rapoarte.randare.coada:16}") int coada) {
+    this.octetiMaxim = octetiMaxim;
+    this.randare = new ThreadPoolExecutor(fire, fire, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(coada),
+        Thread.ofPlatform().name("randare-rapoarte-", 0).daemon().factory());
+  }
+
+  /**
+   * Raportul pentru cheie, din cache sau randat in fundal.
+   *
+   * @throws RejectedExecutionException daca raportul lipseste si coada de randare este plina
+   */
+  public CompletableFuture<byte[]> obtine(Cheie cheie, Supplier<byte[]> randeaza) {
+    CompletableFuture<byte[]> rezultat;
+    synchronized (intrari) {
+      rezultat = intrari.get(cheie);
+      if (rezultat != null) {
+        return rezultat;
+      }
+      rezultat = new CompletableFuture<>();
+      intrari.put(cheie, rezultat);
+    }
+    CompletableFuture<byte[]> viitor = rezultat;
+    try {
+      randare.execute(() -> {
+        try {
+          byte[] date = randeaza.get();
+          adaugat(cheie, viitor, date.length);
+          viitor.complete(date);
+        } catch (RuntimeException | Error ex) {
+          eliminat(cheie, viitor);
+          viitor.completeExceptionally(ex);
+        }
+      });
+    } catch (RejectedExecutionException ex) {
+      eliminat(cheie, viitor);
+      viitor.completeExceptionally(ex);
+      throw ex;
+    }
+    return viitor;
+  }
+
+  @PreDestroy
+  void opreste() {
+    randare.shutdownNow();
+  }
+
+  private void adaugat(Cheie cheie, CompletableFuture<byte[]> viitor, int dimensiune) {
+    synchronized (intrari) {
+      if (intrari.get(cheie) != viitor) {
+        return;
+      }
+      octeti += dimensiune;
+      // Se evacueaza cele mai vechi intrari terminate; randarile in curs raman.
+      Iterator<Map.Entry<Cheie, CompletableFuture<byte[]>>> it = intrari.entrySet().iterator();
+      while (octeti > octetiMaxim && it.hasNext()) {
+        Map.Entry<Cheie, CompletableFuture<byte[]>> intrare = it.next();
+        CompletableFuture<byte[]> evacuat = intrare.getValue();
+        if (evacuat.isDone()) {
+          octeti -= evacuat.join().length;
+          it.remove();
+        } else if (evacuat == viitor) {
+          // Un singur raport mai mare decat tot cache-ul nu este pastrat.
+          octeti -= dimensiune;
+          it.remove();
+        }
+      }
+    }
+  }
+
+  private void eliminat(Cheie cheie, CompletableFuture<byte[]> viitor) {
+    synchronized (intrari) {
+      intrari.remove(cheie, viitor);
+    }
+  }
+
+  /**
+   * Cheia unui raport randat; capetele null ale intervalului nu limiteaza.
+   */
+  public record Cheie(long rulareId, String format, LocalDate start, LocalDate end) {
+
+    private static final String PORNIRE = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * ETag puternic: continutul depinde doar de cheie, deci doua randari ale aceleiasi chei
+     * sunt echivalente pentru client. Id-urile negative ale rularilor nesalvate o iau de la
+     * capat la fiecare pornire, asa ca ETag-ul lor contine si momentul pornirii.
+     */
+    public String etag() {
+      return "\"" + (rulareId < 0 ? "m" + PORNIRE : "r") + rulareId + "-" + format + "-"
+          + (start == null ? "" : start) + "-" + (end == null ? "" : end) + "\"";
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Cache read-through pentru datele de referinta: facultatile si programele de studiu cu
+ * locurile lor, care se schimba de cateva ori pe an, dar sunt citite la fiecare rulare de
+ * procesare si la fiecare incarcare a listelor. Catalogul este imutabil si indexat dupa id;
+ * este citit din baza de date la prima cerere dupa o invalidare.
+ *
+ * <p>Controllerele invalideaza catalogul dupa fiecare scriere salvata. Incarcarea si
+ * invalidarea folosesc acelasi lock, deci un catalog citit inainte de o scriere nu poate fi
+ * publicat dupa invalidarea ei. Metricile {@code admitere.catalog.cereri} (cu tag-ul
+ * {@code rezultat}: {@code hit} sau {@code miss}) si {@code admitere.catalog.invalidari} arata
+ * cat de des este recitit.
+ */
+@Component
+public class CatalogReferinta {
+
+  private final ProgramStudiuRepository programStudiuRepository;
+  private final FacultateRepository facultateRepository;
+  private final TransactionTemplate tranzactieCitire;
+  private final Counter gasiri;
+  private final Counter ratari;
+  private final Counter invalidari;
+
+  private final Object lock = new Object();
+  private volatile Catalog catalog;
+
+  public CatalogReferinta(ProgramStudiuRepository programStudiuRepository,
+      FacultateRepository facultateRepository,
+      MeterRegistry registry,
+      PlatformTransactionManager transactionManager) {
+    this.programStudiuRepository = programStudiuRepository;
+    this.facultateRepository = facultateRepository;
+    this.tranzactieCitire = new TransactionTemplate(transactionManager);
+    this.tranzactieCitire.setReadOnly(true);
+    this.gasiri = cereri(registry, "hit");
+    this.ratari = cereri(registry, "miss");
+    this.invalidari = Counter.builder("admitere.catalog.invalidari")
+        .description("Invalidari ale catalogului de facultati si programe")
+        .register(registry);
+  }
+
+  /**
+   * Catalogul curent, citit din baza de date daca a fost invalidat.
+   */
+  public Catalog catalog() {
+    Catalog curent = catalog;
+    if (curent != null) {
+      gasiri.increment();
+      return curent;
+    }
+    synchronized (lock) {
+      if (catalog == null) {
+        ratari.increment();
+        catalog = tranzactieCitire.execute(status -> new Catalog(
+            facultateRepository.findAll(Sort.by("id")),
+            programStudiuRepository.findAllWithFacultate()));
+      } else {
+        // Incarcat de o cerere concurenta.
+        gasiri.increment();
+      }
+      return catalog;
+    }
+  }
+
+  /**
+   * Scoate catalogul curent; se apeleaza dupa commit-ul unei scrieri in facultate sau
+   * program_studiu, ca urmatoarea cerere sa citeasca datele noi.
+   */
+  public void invalideaza() {
+    synchronized (lock) {
+      catalog = null;
+      invalidari.increment();
+    }
+  }
+
+  private static Counter cereri(MeterRegistry registry, String rezultat) {
+    return Counter.builder("admitere.catalog.cereri")
+        .description("Cereri catre catalogul de facultati si programe")
+        .tag("rezultat", rezultat)
+        .register(registry);
+  }
+
+  /**
+   * Facultatile (id - nume) si programele de studiu, ordonate dupa id.
+   */
+  public static final class Catalog {
+
+    private final Map<Long, String> facultati;
+    private final List<ProgramStudiuResponse> programe;
+    private final Map<Long, ProgramStudiuResponse> programePeId;
+
+    Catalog(List<Facultate> facultati, List<ProgramStudiuResponse> programe) {
+      Map<Long, String> nume = new LinkedHashMap<>();
+      for (Facultate facultate : facultati) {
+        nume.put(facultate.getId(), facultate.getNume());
+      }
+      Map<Long, ProgramStudiuResponse> peId = new LinkedHashMap<>();
+      for (ProgramStudiuResponse program : programe) {
+        peId.put(program.id(), program);
+      }
+      this.facultati = Collections.unmodifiableMap(nume);
+      this.programe = List.copyOf(programe);
+      this.programePeId = Collections.unmodifiableMap(peId);
+    }
+
+    public Map<Long, String> facultati() {
+      return facultati;
+    }
+
+    public List<ProgramStudiuResponse> programe() {
+      return programe;
+    }
+
+    public ProgramStudiuResponse program(Long id) {
+      return programePeId.get(id);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Codifica ordinea clasamentului (medie desc, created_at asc, id asc, valorile null ultimele)
+ * intr-o cheie {@code long} pe intrare si sorteaza cu {@link Arrays#parallelSort(long[])},
+ * fara comparatori pe obiecte.
+ *
+ * <p>Cheia concateneaza trei ranguri dense: rangul mediei scalate (descrescator), rangul
+ * momentului crearii in nanosecunde de la epoch si rangul id-ului. Fiecare rang pastreaza
+ * exact ordinea componentei din {@link ProcesareAdmitereService#compareDosare}, iar
+ * concatenarea pe biti da ordinea lexicografica, deci ordinea cheilor este identica cu cea a
+ * comparatorului. Pentru ca id-urile sunt unice, rangul id-ului din bitii de jos identifica
+ * intrarea dupa sortare.
+ *
+ * <p>Codificarea este exacta doar daca id-urile sunt nenule si unice, toate momentele au
+ * acelasi offset (altfel {@code OffsetDateTime.compareTo} departajeaza momentele egale dupa
+ * ora locala) si incap in nanosecunde pe {@code long}, iar cele trei ranguri incap in 63 de
+ * biti. Altfel se foloseste comparatorul.
+ */
+final class CheiClasament {
+
+  private CheiClasament() {
+  }
+
+  /**
+   * Returneaza intrarile in ordinea clasamentului.
+   */
+  static List<IntrareClasament> sorteaza(List<IntrareClasament> intrari) {
+    int n = intrari.size();
+    // Rangul id-ului (bitii de jos ai cheii) -> pozitia intrarii in lista primita.
+    int[] dupaRangId = new int[n];
+    long[] chei = chei(intrari, dupaRangId);
+    if (chei == null) {
+      List<IntrareClasament> sortate = new ArrayList<>(intrari);
+      sortate.sort(ProcesareAdmitereService::compareDosare);
+      return sortate;
+    }
+
+    Arrays.parallelSort(chei);
+    long mascaId = (1L << biti(n)) - 1;
+    List<IntrareClasament> sortate = new ArrayList<>(n);
+    for (long cheie : chei) {
+      sortate.add(intrari.get(dupaRangId[(int) (cheie & mascaId)]));
+    }
+    return sortate;
+  }
+
+  /**
+   * Cheile intrarilor, in ordinea data, sau null daca ordinea nu poate fi codificata exact.
+   */
+  static long[] chei(List<IntrareClasament> intrari) {
+    return chei(intrari, null);
+  }
+
+  private static long[] chei(List<IntrareClasament> intrari, int[] dupaRangId) {
+    int n = intrari.size();
+    long[] medii = new long[n];
+    long[] momente = new long[n];
+    boolean[] faraMoment = new boolean[n];
+    long[] ids = new long[n];
+    ZoneOffset offset = null;
+
+    for (int i = 0; i < n; i++) {
+      IntrareClasament intrare = intrari.get(i);
+      if (intrare.dosarId() == null) {
+        return null;
+      }
+      ids[i] = intrare.dosarId();
+      // Negata, media devine crescatoare; FARA_MEDIE (MIN_VALUE) devine cea mai mare.
+      medii[i] = -(long) intrare.medieScalata();
+      OffsetDateTime createdAt = intrare.createdAt();
+      if (createdAt == null) {
+        faraMoment[i] = true;
+        continue;
+      }
+      if (offset == null) {
+        offset = createdAt.getOffset();
+      } else if (!offset.equals(createdAt.getOffset())) {
+        return null;
+      }
+      try {
+        momente[i] = Math.addExact(
+            Math.multiplyExact(createdAt.toEpochSecond(), 1_000_000_000L),
+            createdAt.getNano());
+      } catch (ArithmeticException ex) {
+        return null;
+      }
+    }
+
+    long[] mediiDistincte = distincte(medii, null);
+    long[] momenteDistincte = distincte(momente, faraMoment);
+    long[] idsDistincte = distincte(ids, null);
+    if (idsDistincte.length != n) {
+      return null;
+    }
+
+    // Momentul lipsa primeste rangul imediat dupa toate momentele existente.
+    int bitiMedie = biti(mediiDistincte.length);
+    int bitiMoment = biti(momenteDistincte.length + 1);
+    int bitiId = biti(n);
+    if (bitiMedie + bitiMoment + bitiId > 63) {
+      return null;
+    }
+
+    long[] chei = new long[n];
+    for (int i = 0; i < n; i++) {
+      long rangMedie = Arrays.binarySearch(mediiDistincte, medii[i]);
+      long rangMoment = faraMoment[i]
+          ? momenteDistincte.length
+          : Arrays.binarySearch(momenteDistincte, momente[i]);
+      int rangId = Arrays.binarySearch(idsDistincte, ids[i]);
+      chei[i] = (rangMedie << (bitiMoment + bitiId)) | (rangMoment << bitiId) | rangId;
+      if (dupaRangId != null) {
+        dupaRangId[rangId] = i;
+      }
+    }
+    return chei;
+  }
+
+  /**
+   * Valorile distincte sortate crescator, ignorand pozitiile marcate in {@code excluse}.
+   */
+  private static long[] distincte(long[] valori, boolean[] excluse) {
+    long[] copie = new long[valori.length];
+    int count = 0;
+    for (int i = 0; i < valori.length; i++) {
+      if (excluse == null || !excluse[i]) {
+        copie[count++] = valori[i];
+      }
+    }
+    Arrays.parallelSort(copie, 0, count);
+    int distincte = 0;
+    for (int i = 0; i < count; i++) {
+      if (distincte == 0 || copie[distincte - 1] != copie[i]) {
+        copie[distincte++] = copie[i];
+      }
+    }
+    return Arrays.copyOf(copie, distincte);
+  }
+
+  // Numarul de biti necesari pentru valorile 0 .. count - 1.
+  private static int biti(int count) {
+    return count <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(count - 1L);
+  }
+}
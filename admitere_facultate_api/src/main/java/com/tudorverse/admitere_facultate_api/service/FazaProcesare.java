@@ -0,0 +1,20 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+/**
+ * Fazele unei rulari de procesare a admiterii, in ordinea in care sunt parcurse.
+ */
+public enum FazaProcesare {
+  IN_ASTEPTARE,
+  INCARCARE,
+  SORTARE,
+  ALOCARE,
+  VERIFICARE,
+  PUBLICARE,
+  FINALIZAT,
+  ANULAT,
+  ESUAT;
+
+  public boolean terminala() {
+    return this == FINALIZAT || this == ANULAT || this == ESUAT;
+  }
+}
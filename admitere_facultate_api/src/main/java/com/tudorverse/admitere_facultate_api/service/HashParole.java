@@ -0,0 +1,174 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hash-uirea si verificarea parolelor pe un pool dedicat, cu un fir pe nucleu si o coada
+ * marginita. Un hash BCrypt costa zeci de milisecunde de CPU; rulat direct pe firele cererilor,
+ * un val de login-uri sau de scrieri de candidati ar ocupa toate nucleele si ar intarzia si
+ * cererile ieftine. Cererea asteapta rezultatul, dar CPU-ul folosit pentru parole este marginit
+ * de pool; cu coada plina, operatia este respinsa imediat cu {@link RejectedExecutionException}
+ * (503 pentru client).
+ *
+ * <p>Metrici: {@code admitere.parole.coada} (operatii care asteapta un fir),
+ * {@code admitere.parole.asteptare} (timpul in coada), {@code admitere.parole.hash} (durata
+ * hash-ului, cu tag-ul {@code operatie}: {@code encode} sau {@code matches}) si
+ * {@code admitere.parole.respinse} (operatiile unei cereri respinse cu coada plina).
+ */
+@Component
+public class HashParole {
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final int fire;
+  private final Timer asteptare;
+  private final Timer encode;
+  private final Timer matches;
+  private final Counter respinse;
+
+  /**
+   * Creeaza pool-ul; cu {@code fire} 0 foloseste cate un fir pentru fiecare nucleu.
+   */
+  public HashParole(PasswordEncoder passwordEncoder, MeterRegistry registry,
+      @Value("${admitere.parole.fire:0}") int fire,
+      @Value("${admitere.parole.coada:64}") int coada) {
+    this.passwordEncoder = passwordEncoder;
+    this.fire = fire > 0 ? fire : Runtime.getRuntime().availableProcessors();
+    this.executor = new ThreadPoolExecutor(this.fire, this.fire, 0, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(coada),
+        Thread.ofPlatform().name("hash-parole-", 0).daemon().factory());
+    Gauge.builder("admitere.parole.coada", executor, pool -> pool.getQueue().size())
+        .description("Operatii pe parole care asteapta un fir").register(registry);
+    this.asteptare = Timer.builder("admitere.parole.asteptare")
+        .description("Timpul petrecut in coada de hash-uire").register(registry);
+    this.encode = hash(registry, "encode");
+    this.matches = hash(registry, "matches");
+    this.respinse = Counter.builder("admitere.parole.respinse")
+        .description("Operatii pe parole respinse cu coada plina").register(registry);
+  }
+
+  /**
+   * Hash-ul parolei.
+   *
+   * @throws RejectedExecutionException daca coada de hash-uire este plina
+   */
+  public String encode(String parola) {
+    return executa(() -> encode.record(() -> passwordEncoder.encode(parola)));
+  }
+
+  /**
+   * Verifica parola fata de hash-ul salvat.
+   *
+   * @throws RejectedExecutionException daca coada de hash-uire este plina
+   */
+  public boolean matches(String parola, String hash) {
+    return executa(() -> matches.record(() -> passwordEncoder.matches(parola, hash)));
+  }
+
+  /**
+   * Hash-urile parolelor date, in aceeasi ordine (null pentru o parola null), calculate in
+   * paralel pe pool. Un import tine in pool cel mult cate un hash pe fir, ca sa lase loc in
+   * coada cererilor interactive; cand coada este totusi plina, asteapta hash-urile proprii in
+   * curs, iar fara niciunul in curs hash-uieste pe firul apelant, in loc sa esueze.
+   */
+  public List<String> encodeToate(List<String> parole) {
+    String[] hashuri = new String[parole.size()];
+    Deque<Future<String>> inCurs = new ArrayDeque<>();
+    Deque<Integer> pozitii = new ArrayDeque<>();
+    for (int i = 0; i < parole.size(); i++) {
+      String parola = parole.get(i);
+      if (parola == null) {
+        continue;
+      }
+      Callable<String> sarcina = () -> encode.record(() -> passwordEncoder.encode(parola));
+      while (true) {
+        if (inCurs.size() >= fire) {
+          hashuri[pozitii.poll()] = asteapta(inCurs.poll());
+        }
+        try {
+          inCurs.add(trimite(sarcina));
+          pozitii.add(i);
+          break;
+        } catch (RejectedExecutionException ex) {
+          if (inCurs.isEmpty()) {
+            hashuri[i] = encode.record(() -> passwordEncoder.encode(parola));
+            break;
+          }
+          hashuri[pozitii.poll()] = asteapta(inCurs.poll());
+        }
+      }
+    }
+    while (!inCurs.isEmpty()) {
+      hashuri[pozitii.poll()] = asteapta(inCurs.poll());
+    }
+    return Arrays.asList(hashuri);
+  }
+
+  @PreDestroy
+  void opreste() {
+    executor.shutdownNow();
+  }
+
+  // Respingerile din encodeToate sunt tratate de lot si nu sunt numarate.
+  private <T> T executa(Callable<T> sarcina) {
+    Future<T> viitor;
+    try {
+      viitor = trimite(sarcina);
+    } catch (RejectedExecutionException ex) {
+      respinse.increment();
+      throw ex;
+    }
+    return asteapta(viitor);
+  }
+
+  private <T> Future<T> trimite(Callable<T> sarcina) {
+    long pus = System.nanoTime();
+    return executor.submit(() -> {
+      asteptare.record(System.nanoTime() - pus, TimeUnit.NANOSECONDS);
+      return sarcina.call();
+    });
+  }
+
+  private static <T> T asteapta(Future<T> viitor) {
+    try {
+      return viitor.get();
+    } catch (InterruptedException ex) {
+      viitor.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Hash-uirea parolei a fost intrerupta", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cauza) {
+        throw cauza;
+      }
+      if (ex.getCause() instanceof Error eroare) {
+        throw eroare;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  private static Timer hash(MeterRegistry registry, String operatie) {
+    return Timer.builder("admitere.parole.hash")
+        .description("Durata hash-uirii si verificarii parolelor")
+        .tag("operatie", operatie)
+        .register(registry);
+  }
+}
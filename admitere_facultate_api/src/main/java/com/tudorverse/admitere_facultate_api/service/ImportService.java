@@ -0,0 +1,415 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.EroareImport;
+import com.tudorverse.admitere_facultate_api.dto.ImportResponse;
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.model.Dosar;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import com.tudorverse.admitere_facultate_api.repository.ImportRepository;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele.Tabela;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Import in masa pentru candidati, dosare si optiuni, in locul unui POST (si al unei
+ * tranzactii) pentru fiecare rand. Randurile sunt citite in flux si grupate in loturi de
+ * {@code admitere.import.lot}. Fiecare lot este validat: campurile, duplicatele din fisier si,
+ * cu cate o interogare pe lot, referintele si email-urile existente. Apoi primeste id-uri
+ * rezervate din secventa si este inserat printr-un lot JDBC, intr-o tranzactie scurta.
+ *
+ * <p>Randurile invalide sunt raportate si sarite, fara a opri importul. Daca baza de date
+ * respinge totusi un lot (de exemplu o scriere concurenta cu acelasi email), randurile lui sunt
+ * reluate unul cate unul, ca eroarea sa fie atribuita randului care o produce. Dupa fiecare lot
+ * salvat sunt actualizate versiunile listelor, jurnalul procesarii incrementale si indexul de
+ * cautare, ca dupa scrierile unitare.
+ */
+@Service
+public class ImportService {
+
+  /**
+   * Tabelele care pot fi importate.
+   */
+  public enum Tip {
+    CANDIDATI, DOSARE, OPTIUNI
+  }
+
+  private static final Set<String> STATUSURI_DOSAR = Set.of("IN_LUCRU", "TRIMIS", "VALIDAT");
+  // Coloana medie este numeric(4,2).
+  private static final BigDecimal MEDIE_LIMITA = new BigDecimal("100");
+
+  private final ImportRepository importRepository;
+  private final HashParole hashParole;
+  private final CatalogReferinta catalogReferinta;
+  private final VersiuniTabele versiuniTabele;
+  private final ModificariAdmitere modificariAdmitere;
+  private final IndexCandidati indexCandidati;
+  private final TransactionTemplate tranzactieScriere;
+  private final int marimeLot;
+
+  public ImportService(ImportRepository importRepository,
+      HashParole hashParole,
+      CatalogReferinta catalogReferinta,
+      VersiuniTabele versiuniTabele,
+      ModificariAdmitere modificariAdmitere,
+      IndexCandidati indexCandidati,
+      PlatformTransactionManager transactionManager,
+      @Value("${admitere.import.lot:1000}") int marimeLot) {
+    this.importRepository = importRepository;
+    this.hashParole = hashParole;
+    this.catalogReferinta = catalogReferinta;
+    this.versiuniTabele = versiuniTabele;
+    this.modificariAdmitere = modificariAdmitere;
+    this.indexCandidati = indexCandidati;
+    this.tranzactieScriere = new TransactionTemplate(transactionManager);
+    this.marimeLot = marimeLot;
+  }
+
+  /**
+   * Importa randurile date in tabela tipului si raporteaza id-ul creat pentru fiecare rand
+   * sau motivul respingerii lui.
+   */
+  public ImportResponse importa(Tip tip, Iterator<RandImport> randuri) {
+    return switch (tip) {
+      case CANDIDATI -> importa(new ImportCandidati(), randuri);
+      case DOSARE -> importa(new ImportDosare(), randuri);
+      case OPTIUNI -> importa(new ImportOptiuni(), randuri);
+    };
+  }
+
+  private <T> ImportResponse importa(Importator<T> importator, Iterator<RandImport> randuri) {
+    List<Long> ids = new ArrayList<>();
+    List<EroareImport> erori = new ArrayList<>();
+    List<Rand<T>> lot = new ArrayList<>(marimeLot);
+    int importate = 0;
+    while (randuri.hasNext()) {
+      RandImport citit = randuri.next();
+      Rand<T> rand = new Rand<>(citit.numar(), ids.size());
+      ids.add(null);
+      if (citit.eroare() != null) {
+        rand.eroare = citit.eroare();
+      } else {
+        try {
+          rand.valoare = importator.citeste(citit.campuri());
+        } catch (IllegalArgumentException ex) {
+          rand.eroare = ex.getMessage();
+        }
+      }
+      lot.add(rand);
+      if (lot.size() == marimeLot) {
+        importate += salveaza(importator, lot, ids, erori);
+        lot.clear();
+      }
+    }
+    if (!lot.isEmpty()) {
+      importate += salveaza(importator, lot, ids, erori);
+    }
+    return new ImportResponse(ids.size(), importate, ids, erori);
+  }
+
+  private <T> int salveaza(Importator<T> importator, List<Rand<T>> lot, List<Long> ids,
+      List<EroareImport> erori) {
+    List<Rand<T>> citite = valide(lot);
+    if (!citite.isEmpty()) {
+      importator.verifica(citite);
+    }
+    List<Rand<T>> deSalvat = valide(lot);
+    if (!deSalvat.isEmpty()) {
+      importator.pregateste(deSalvat);
+      try {
+        tranzactieScriere.executeWithoutResult(status -> {
+          long[] noi = importRepository.alocaIds(importator.tabela(), deSalvat.size());
+          for (int i = 0; i < deSalvat.size(); i++) {
+            deSalvat.get(i).id = noi[i];
+          }
+          importator.insereaza(deSalvat);
+        });
+      } catch (DataIntegrityViolationException ex) {
+        // Id-urile rezervate raman valabile; secventa nu este tranzactionala.
+        for (Rand<T> rand : deSalvat) {
+          try {
+            tranzactieScriere.executeWithoutResult(status -> importator.insereaza(List.of(rand)));
+          } catch (DataIntegrityViolationException respins) {
+            rand.eroare = "Respins de baza de date: "
+                + respins.getMostSpecificCause().getMessage();
+          }
+        }
+      }
+    }
+    List<Rand<T>> salvate = valide(lot);
+    for (Rand<T> rand : lot) {
+      if (rand.eroare != null) {
+        erori.add(new EroareImport(rand.numar, rand.eroare));
+      } else {
+        ids.set(rand.pozitie, rand.id);
+      }
+    }
+    if (!salvate.isEmpty()) {
+      importator.salvate(salvate);
+    }
+    return salvate.size();
+  }
+
+  private static <T> List<Rand<T>> valide(List<Rand<T>> lot) {
+    return lot.stream().filter(rand -> rand.eroare == null).toList();
+  }
+
+  private static String text(Map<String, String> campuri, String camp) {
+    String valoare = campuri.get(camp);
+    if (valoare == null || valoare.isBlank()) {
+      return null;
+    }
+    return valoare.trim();
+  }
+
+  private static String obligatoriu(Map<String, String> campuri, String camp) {
+    String valoare = text(campuri, camp);
+    if (valoare == null) {
+      throw new IllegalArgumentException("Camp lipsa: " + camp);
+    }
+    return valoare;
+  }
+
+  private static long id(Map<String, String> campuri, String camp) {
+    try {
+      return Long.parseLong(obligatoriu(campuri, camp));
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Camp invalid: " + camp);
+    }
+  }
+
+  /**
+   * Un rand al importului: valoarea citita, id-ul primit la inserare sau motivul respingerii.
+   */
+  private static final class Rand<T> {
+
+    private final int numar;
+    private final int pozitie;
+    private T valoare;
+    private Long id;
+    private String eroare;
+
+    Rand(int numar, int pozitie) {
+      this.numar = numar;
+      this.pozitie = pozitie;
+    }
+  }
+
+  /**
+   * Regulile de import ale unei tabele; o instanta tine duplicatele vazute intr-un import.
+   */
+  private abstract static class Importator<T> {
+
+    abstract String tabela();
+
+    /**
+     * Valoarea randului, sau {@link IllegalArgumentException} cu motivul respingerii.
+     */
+    abstract T citeste(Map<String, String> campuri);
+
+    /**
+     * Marcheaza randurile care intra in conflict cu datele existente.
+     */
+    void verifica(List<Rand<T>> randuri) {
+    }
+
+    /**
+     * Pregatirea randurilor valide inainte de tranzactie.
+     */
+    void pregateste(List<Rand<T>> randuri) {
+    }
+
+    abstract void insereaza(List<Rand<T>> randuri);
+
+    abstract void salvate(List<Rand<T>> randuri);
+  }
+
+  private final class ImportCandidati extends Importator<Candidat> {
+
+    private final Set<String> emailuri = new HashSet<>();
+
+    @Override
+    String tabela() {
+      return "candidat";
+    }
+
+    @Override
+    Candidat citeste(Map<String, String> campuri) {
+      Candidat candidat = new Candidat();
+      candidat.setNume(obligatoriu(campuri, "nume"));
+      candidat.setPrenume(obligatoriu(campuri, "prenume"));
+      candidat.setEmail(obligatoriu(campuri, "email"));
+      // Parola in clar ramane in hash pana la pregatire.
+      candidat.setParolaHash(text(campuri, "parola"));
+      if (!emailuri.add(candidat.getEmail())) {
+        throw new IllegalArgumentException("Email duplicat in fisier");
+      }
+      return candidat;
+    }
+
+    @Override
+    void verifica(List<Rand<Candidat>> randuri) {
+      Set<String> existente = importRepository.emailuriExistente(
+          randuri.stream().map(rand -> rand.valoare.getEmail()).toList());
+      for (Rand<Candidat> rand : randuri) {
+        if (existente.contains(rand.valoare.getEmail())) {
+          rand.eroare = "Email existent";
+        }
+      }
+    }
+
+    @Override
+    void pregateste(List<Rand<Candidat>> randuri) {
+      // Hash-urile lotului sunt calculate in paralel, pe pool-ul parolelor.
+      List<String> hashuri = hashParole.encodeToate(
+          randuri.stream().map(rand -> rand.valoare.getParolaHash()).toList());
+      for (int i = 0; i < randuri.size(); i++) {
+        randuri.get(i).valoare.setParolaHash(hashuri.get(i));
+      }
+    }
+
+    @Override
+    void insereaza(List<Rand<Candidat>> randuri) {
+      importRepository.insereazaCandidati(randuri.stream().map(rand -> {
+        rand.valoare.setId(rand.id);
+        return rand.valoare;
+      }).toList());
+    }
+
+    @Override
+    void salvate(List<Rand<Candidat>> randuri) {
+      versiuniTabele.modificat(Tabela.CANDIDAT);
+      for (Rand<Candidat> rand : randuri) {
+        indexCandidati.actualizat(rand.valoare);
+      }
+    }
+  }
+
+  private final class ImportDosare extends Importator<Dosar> {
+
+    @Override
+    String tabela() {
+      return "dosar";
+    }
+
+    @Override
+    Dosar citeste(Map<String, String> campuri) {
+      Dosar dosar = new Dosar();
+      dosar.setCandidatId(id(campuri, "candidatId"));
+      dosar.setStatus(obligatoriu(campuri, "status"));
+      if (!STATUSURI_DOSAR.contains(dosar.getStatus())) {
+        throw new IllegalArgumentException("Status invalid: " + dosar.getStatus());
+      }
+      String medie = text(campuri, "medie");
+      if (medie != null) {
+        try {
+          dosar.setMedie(new BigDecimal(medie));
+        } catch (NumberFormatException ex) {
+          throw new IllegalArgumentException("Camp invalid: medie");
+        }
+        if (dosar.getMedie().abs().compareTo(MEDIE_LIMITA) >= 0) {
+          throw new IllegalArgumentException("Medie in afara intervalului");
+        }
+      }
+      return dosar;
+    }
+
+    @Override
+    void verifica(List<Rand<Dosar>> randuri) {
+      Set<Long> existenti = importRepository.idsExistente("candidat",
+          randuri.stream().map(rand -> rand.valoare.getCandidatId()).toList());
+      for (Rand<Dosar> rand : randuri) {
+        if (!existenti.contains(rand.valoare.getCandidatId())) {
+          rand.eroare = "Candidat inexistent";
+        }
+      }
+    }
+
+    @Override
+    void insereaza(List<Rand<Dosar>> randuri) {
+      importRepository.insereazaDosare(randuri.stream().map(rand -> {
+        rand.valoare.setId(rand.id);
+        return rand.valoare;
+      }).toList());
+    }
+
+    @Override
+    void salvate(List<Rand<Dosar>> randuri) {
+      versiuniTabele.modificat(Tabela.DOSAR);
+      for (Rand<Dosar> rand : randuri) {
+        modificariAdmitere.dosarModificat(rand.id);
+      }
+    }
+  }
+
+  private final class ImportOptiuni extends Importator<Optiune> {
+
+    // "dosar:prioritate" si "dosar#program" deja vazute in fisier.
+    private final Set<String> chei = new HashSet<>();
+
+    @Override
+    String tabela() {
+      return "optiune";
+    }
+
+    @Override
+    Optiune citeste(Map<String, String> campuri) {
+      Optiune optiune = new Optiune();
+      optiune.setDosarId(id(campuri, "dosarId"));
+      optiune.setProgramId(id(campuri, "programId"));
+      long prioritate = id(campuri, "prioritate");
+      if (prioritate < 1 || prioritate > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Camp invalid: prioritate");
+      }
+      optiune.setPrioritate((int) prioritate);
+      if (catalogReferinta.catalog().program(optiune.getProgramId()) == null) {
+        throw new IllegalArgumentException("Program inexistent");
+      }
+      if (chei.contains(optiune.getDosarId() + ":" + optiune.getPrioritate())) {
+        throw new IllegalArgumentException("Prioritate duplicata pentru dosar in fisier");
+      }
+      if (chei.contains(optiune.getDosarId() + "#" + optiune.getProgramId())) {
+        throw new IllegalArgumentException("Program duplicat pentru dosar in fisier");
+      }
+      chei.add(optiune.getDosarId() + ":" + optiune.getPrioritate());
+      chei.add(optiune.getDosarId() + "#" + optiune.getProgramId());
+      return optiune;
+    }
+
+    @Override
+    void verifica(List<Rand<Optiune>> randuri) {
+      Set<Long> existente = importRepository.idsExistente("dosar",
+          randuri.stream().map(rand -> rand.valoare.getDosarId()).toList());
+      for (Rand<Optiune> rand : randuri) {
+        if (!existente.contains(rand.valoare.getDosarId())) {
+          rand.eroare = "Dosar inexistent";
+        }
+      }
+    }
+
+    @Override
+    void insereaza(List<Rand<Optiune>> randuri) {
+      importRepository.insereazaOptiuni(randuri.stream().map(rand -> {
+        rand.valoare.setId(rand.id);
+        return rand.valoare;
+      }).toList());
+    }
+
+    @Override
+    void salvate(List<Rand<Optiune>> randuri) {
+      versiuniTabele.modificat(Tabela.OPTIUNE);
+      for (Rand<Optiune> rand : randuri) {
+        modificariAdmitere.dosarModificat(rand.valoare.getDosarId());
+      }
+    }
+  }
+}
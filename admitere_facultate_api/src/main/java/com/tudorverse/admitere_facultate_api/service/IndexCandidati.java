@@ -0,0 +1,514 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.repository.ParcurgereRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index in memorie pentru cautarea candidatilor dupa nume, prenume si email, in locul
+ * {@code lower(...) like '%x%'} care parcurge toata tabela. Fiecare camp este pliat
+ * ({@link Pliere}) si impartit in trigrame; pentru fiecare trigrama (si camp) se tine lista
+ * sortata a candidatilor care o contin. Un termen de cel putin 3 caractere intersecteaza
+ * listele trigramelor lui, iar candidatii ramasi sunt verificati pe textul complet.
+ *
+ * <p>Indexul este construit la pornire si actualizat de {@code CandidatController} dupa
+ * fiecare scriere salvata. Pana la terminarea incarcarii, {@link #cauta} intoarce null si
+ * cautarea ramane in baza de date; scrierile din acest interval sunt aplicate la final.
+ */
+@Component
+public class IndexCandidati implements CommandLineRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IndexCandidati.class);
+
+  private static final int CAMPURI = 3;
+  // Scorul unui camp: egal, prefix (al campului sau al unui cuvant), continut.
+  private static final int EGAL = 3;
+  private static final int PREFIX = 2;
+  private static final int CONTINUT = 1;
+  private static final int SCOR_MAXIM = CAMPURI * EGAL;
+  // Peste aceasta limita rezultatele sunt sortate complet, nu selectate partial.
+  private static final int SELECTIE_MAXIMA = 4096;
+
+  private final ParcurgereRepository parcurgereRepository;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Slotul fiecarui candidat si, invers, id-ul si campurile pliate ale fiecarui slot.
+  private final Map<Long, Integer> sloturi = new HashMap<>();
+  private long[] ids = new long[1024];
+  private final Coloana[] coloane = {new Coloana(), new Coloana(), new Coloana()};
+  private int urmatorulSlot;
+  private final Map<Long, Postare> postari = new HashMap<>();
+  private boolean gata;
+  // Scrierile primite in timpul incarcarii; campuri null inseamna stergere.
+  private final List<Operatie> inAsteptare = new ArrayList<>();
+
+  public IndexCandidati(ParcurgereRepository parcurgereRepository) {
+    this.parcurgereRepository = parcurgereRepository;
+  }
+
+  @Override
+  public void run(String... args) {
+    try {
+      incarca();
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Indexul de cautare a candidatilor nu a fost construit: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * Construieste indexul din tabela candidat. Parcurgerea ruleaza fara lock; scrierile
+   * primite intre timp sunt aplicate apoi, in ordine, peste datele citite.
+   */
+  void incarca() {
+    long start = System.nanoTime();
+    parcurgereRepository.parcurgeCandidati(this::adaugaLaIncarcare);
+    lock.writeLock().lock();
+    try {
+      for (Operatie operatie : inAsteptare) {
+        aplica(operatie);
+      }
+      inAsteptare.clear();
+      gata = true;
+      LOGGER.info("Index candidati: {} candidati, {} trigrame in {} ms", sloturi.size(),
+          postari.size(), (System.nanoTime() - start) / 1_000_000);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Inregistreaza un candidat creat sau modificat.
+   */
+  public void actualizat(Candidat candidat) {
+    scrie(new Operatie(candidat.getId(), campuri(candidat)));
+  }
+
+  /**
+   * Scoate un candidat sters.
+   */
+  public void sters(Long id) {
+    scrie(new Operatie(id, null));
+  }
+
+  /**
+   * Id-urile candidatilor care contin toti termenii dati (null sau gol nu filtreaza), in
+   * ordinea relevantei: suma scorurilor pe campuri, apoi id-ul. Pagina incepe dupa candidatul
+   * {@code after} in aceasta ordine; daca acesta nu mai potriveste, dupa id-ul lui in clasa
+   * cea mai relevanta. Intoarce null cat timp indexul nu este incarcat.
+   */
+  public long[] cauta(String nume, String prenume, String email, long after, int limit) {
+    char[][] termeni = {termen(nume), termen(prenume), termen(email)};
+    lock.readLock().lock();
+    try {
+      if (!gata) {
+        return null;
+      }
+      long cursor = after;
+      Integer slotCursor = sloturi.get(after);
+      if (slotCursor != null) {
+        int scor = scor(slotCursor, termeni);
+        if (scor > 0) {
+          cursor = cheie(scor, after);
+        }
+      }
+      Selectie selectie = new Selectie(limit);
+      int[] candidati = candidati(termeni);
+      if (candidati == null) {
+        for (int slot = 0; slot < urmatorulSlot; slot++) {
+          potriveste(slot, termeni, cursor, selectie);
+        }
+      } else {
+        for (int slot : candidati) {
+          potriveste(slot, termeni, cursor, selectie);
+        }
+      }
+      long[] rezultat = selectie.rezultat();
+      for (int i = 0; i < rezultat.length; i++) {
+        rezultat[i] &= (1L << 48) - 1;
+      }
+      return rezultat;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void adaugaLaIncarcare(Candidat candidat) {
+    adauga(candidat.getId(), campuri(candidat));
+  }
+
+  private void scrie(Operatie operatie) {
+    lock.writeLock().lock();
+    try {
+      if (gata) {
+        aplica(operatie);
+      } else {
+        inAsteptare.add(operatie);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void aplica(Operatie operatie) {
+    Integer slot = sloturi.get(operatie.id());
+    if (slot != null) {
+      scoateTrigrame(slot);
+      if (operatie.campuri() == null) {
+        sloturi.remove(operatie.id());
+        ids[slot] = 0;
+        for (Coloana coloana : coloane) {
+          coloana.sterge(slot);
+        }
+      } else {
+        scrieCampuri(slot, operatie.campuri());
+      }
+    } else if (operatie.campuri() != null) {
+      adauga(operatie.id(), operatie.campuri());
+    }
+  }
+
+  private void adauga(long id, String[] valori) {
+    if (urmatorulSlot == ids.length) {
+      ids = Arrays.copyOf(ids, ids.length * 2);
+    }
+    int slot = urmatorulSlot++;
+    ids[slot] = id;
+    sloturi.put(id, slot);
+    scrieCampuri(slot, valori);
+  }
+
+  private void scrieCampuri(int slot, String[] valori) {
+    for (int camp = 0; camp < CAMPURI; camp++) {
+      Coloana coloana = coloane[camp];
+      coloana.scrie(slot, valori[camp]);
+      int inceput = coloana.inceput[slot];
+      for (int i = inceput; i + 3 <= inceput + coloana.lungime[slot]; i++) {
+        postari.computeIfAbsent(trigrama(camp, coloana.text, i), k -> new Postare())
+            .adauga(slot);
+      }
+    }
+  }
+
+  private void scoateTrigrame(int slot) {
+    for (int camp = 0; camp < CAMPURI; camp++) {
+      Coloana coloana = coloane[camp];
+      int inceput = coloana.inceput[slot];
+      for (int i = inceput; i + 3 <= inceput + coloana.lungime[slot]; i++) {
+        long trigrama = trigrama(camp, coloana.text, i);
+        Postare postare = postari.get(trigrama);
+        if (postare != null && postare.scoate(slot) && postare.n == 0) {
+          postari.remove(trigrama);
+        }
+      }
+    }
+  }
+
+  /**
+   * Sloturile care contin toate trigramele termenilor de cel putin 3 caractere, sau null
+   * daca niciun termen nu este destul de lung si trebuie verificate toate sloturile.
+   */
+  private int[] candidati(char[][] termeni) {
+    List<Postare> liste = new ArrayList<>();
+    for (int camp = 0; camp < CAMPURI; camp++) {
+      char[] termen = termeni[camp];
+      if (termen == null) {
+        continue;
+      }
+      for (int i = 0; i + 3 <= termen.length; i++) {
+        Postare postare = postari.get(trigrama(camp, termen, i));
+        if (postare == null) {
+          return new int[0];
+        }
+        if (!liste.contains(postare)) {
+          liste.add(postare);
+        }
+      }
+    }
+    if (liste.isEmpty()) {
+      return null;
+    }
+    // Se porneste de la lista cea mai scurta; celelalte sunt parcurse o singura data, in
+    // acelasi sens, cu cate un cursor.
+    liste.sort((a, b) -> Integer.compare(a.n, b.n));
+    Postare cea = liste.get(0);
+    int[] cursoare = new int[liste.size()];
+    int[] rezultat = new int[cea.n];
+    int n = 0;
+    candidat:
+    for (int i = 0; i < cea.n; i++) {
+      int slot = cea.sloturi[i];
+      for (int j = 1; j < liste.size(); j++) {
+        Postare postare = liste.get(j);
+        int k = postare.cauta(cursoare[j], slot);
+        cursoare[j] = k;
+        if (k == postare.n) {
+          break candidat;
+        }
+        if (postare.sloturi[k] != slot) {
+          continue candidat;
+        }
+      }
+      rezultat[n++] = slot;
+    }
+    return Arrays.copyOf(rezultat, n);
+  }
+
+  private void potriveste(int slot, char[][] termeni, long cursor, Selectie selectie) {
+    if (ids[slot] == 0) {
+      return;
+    }
+    int scor = scor(slot, termeni);
+    if (scor > 0) {
+      long cheie = cheie(scor, ids[slot]);
+      if (cheie > cursor) {
+        selectie.adauga(cheie);
+      }
+    }
+  }
+
+  /**
+   * Suma scorurilor pe campurile filtrate, sau 0 daca un termen nu este continut.
+   */
+  private int scor(int slot, char[][] termeni) {
+    int total = 0;
+    boolean filtrat = false;
+    for (int camp = 0; camp < CAMPURI; camp++) {
+      char[] termen = termeni[camp];
+      if (termen == null) {
+        continue;
+      }
+      filtrat = true;
+      int scor = coloane[camp].scor(slot, termen);
+      if (scor == 0) {
+        return 0;
+      }
+      total += scor;
+    }
+    return filtrat ? total : CONTINUT;
+  }
+
+  // Ordinea rezultatelor: scor descrescator, apoi id crescator; id-urile incap in 48 de biti.
+  private static long cheie(int scor, long id) {
+    return ((long) (SCOR_MAXIM - scor) << 48) | id;
+  }
+
+  private static long trigrama(int camp, char[] text, int i) {
+    return ((long) camp << 48) | ((long) text[i] << 32) | ((long) text[i + 1] << 16)
+        | text[i + 2];
+  }
+
+  private static String[] campuri(Candidat candidat) {
+    return new String[] {
+        valoare(candidat.getNume()), valoare(candidat.getPrenume()),
+        valoare(candidat.getEmail())};
+  }
+
+  private static char[] termen(String text) {
+    String pliat = Pliere.pliaza(text);
+    return pliat == null || pliat.isEmpty() ? null : pliat.toCharArray();
+  }
+
+  private static String valoare(String text) {
+    String pliat = Pliere.pliaza(text);
+    return pliat == null ? "" : pliat;
+  }
+
+  private record Operatie(long id, String[] campuri) {
+  }
+
+  /**
+   * Textele pliate ale unui camp, puse unul dupa altul in acelasi tablou, ca verificarea
+   * candidatilor sa citeasca memoria in ordinea sloturilor, nu cate un obiect separat pentru
+   * fiecare. Un text inlocuit ramane ca gol pana la urmatoarea realocare, care compacteaza.
+   */
+  private static final class Coloana {
+
+    private char[] text = new char[1 << 14];
+    private int folosit;
+    private int risipit;
+    private int[] inceput = new int[1024];
+    // -1 pentru un slot sters.
+    private int[] lungime = new int[1024];
+    private int sloturiScrise;
+
+    void scrie(int slot, String valoare) {
+      if (slot >= inceput.length) {
+        int capacitate = Math.max(slot + 1, inceput.length * 2);
+        inceput = Arrays.copyOf(inceput, capacitate);
+        lungime = Arrays.copyOf(lungime, capacitate);
+      }
+      sterge(slot);
+      sloturiScrise = Math.max(sloturiScrise, slot + 1);
+      if (folosit + valoare.length() > text.length) {
+        compacteaza(valoare.length());
+      }
+      valoare.getChars(0, valoare.length(), text, folosit);
+      inceput[slot] = folosit;
+      lungime[slot] = valoare.length();
+      folosit += valoare.length();
+    }
+
+    void sterge(int slot) {
+      if (lungime[slot] > 0) {
+        risipit += lungime[slot];
+      }
+      lungime[slot] = -1;
+    }
+
+    /**
+     * Cat de bine potriveste termenul in textul slotului: EGAL, PREFIX, CONTINUT sau 0 daca
+     * nu il contine.
+     */
+    int scor(int slot, char[] termen) {
+      int start = inceput[slot];
+      int ultima = start + lungime[slot] - termen.length;
+      int scor = 0;
+      for (int i = start; i <= ultima; i++) {
+        if (text[i] != termen[0] || !Arrays.equals(text, i, i + termen.length, termen, 0,
+            termen.length)) {
+          continue;
+        }
+        if (i == start) {
+          return ultima == start ? EGAL : PREFIX;
+        }
+        if (!Character.isLetterOrDigit(text[i - 1])) {
+          return PREFIX;
+        }
+        scor = CONTINUT;
+      }
+      return scor;
+    }
+
+    // Copiaza textele ramase, in ordinea sloturilor, intr-un tablou cu loc si pentru inca
+    // cel putin atatea caractere cate sunt ocupate.
+    private void compacteaza(int necesar) {
+      char[] nou = new char[Math.max(text.length, 2 * (folosit - risipit + necesar))];
+      int pozitie = 0;
+      for (int slot = 0; slot < sloturiScrise; slot++) {
+        if (lungime[slot] > 0) {
+          System.arraycopy(text, inceput[slot], nou, pozitie, lungime[slot]);
+          inceput[slot] = pozitie;
+          pozitie += lungime[slot];
+        }
+      }
+      text = nou;
+      folosit = pozitie;
+      risipit = 0;
+    }
+  }
+
+  /**
+   * Lista sortata a sloturilor care contin o trigrama.
+   */
+  private static final class Postare {
+
+    private int[] sloturi = new int[2];
+    private int n;
+
+    void adauga(int slot) {
+      int pozitie = n == 0 || sloturi[n - 1] < slot
+          ? n : Arrays.binarySearch(sloturi, 0, n, slot);
+      if (pozitie >= 0 && pozitie < n) {
+        // Trigrama apare de mai multe ori in acelasi camp.
+        return;
+      }
+      pozitie = pozitie < 0 ? -pozitie - 1 : pozitie;
+      if (n == sloturi.length) {
+        sloturi = Arrays.copyOf(sloturi, n * 2);
+      }
+      System.arraycopy(sloturi, pozitie, sloturi, pozitie + 1, n - pozitie);
+      sloturi[pozitie] = slot;
+      n++;
+    }
+
+    boolean scoate(int slot) {
+      int pozitie = Arrays.binarySearch(sloturi, 0, n, slot);
+      if (pozitie < 0) {
+        return false;
+      }
+      System.arraycopy(sloturi, pozitie + 1, sloturi, pozitie, n - pozitie - 1);
+      n--;
+      return true;
+    }
+
+    /**
+     * Prima pozitie de la {@code start} cu un slot cel putin egal cu cel dat (sau {@code n}),
+     * cu pasi dubli si apoi cautare binara, ca avansul sa coste dupa distanta parcursa.
+     */
+    int cauta(int start, int slot) {
+      int pas = 1;
+      int jos = start;
+      int sus = start;
+      while (sus < n && sloturi[sus] < slot) {
+        jos = sus + 1;
+        sus = start + pas;
+        pas <<= 1;
+      }
+      if (sus >= n) {
+        sus = n;
+      }
+      int pozitie = Arrays.binarySearch(sloturi, jos, sus, slot);
+      return pozitie < 0 ? -pozitie - 1 : pozitie;
+    }
+  }
+
+  /**
+   * Cele mai mici {@code limit} chei vazute, in ordine.
+   */
+  private static final class Selectie {
+
+    private final int limit;
+    private long[] chei;
+    private int n;
+
+    Selectie(int limit) {
+      this.limit = limit;
+      this.chei = new long[Math.min(limit, 64)];
+    }
+
+    void adauga(long cheie) {
+      if (limit > SELECTIE_MAXIMA) {
+        // Pagini foarte mari: se colecteaza tot si se sorteaza o data.
+        if (n == chei.length) {
+          chei = Arrays.copyOf(chei, n * 2);
+        }
+        chei[n++] = cheie;
+        return;
+      }
+      if (n == limit && cheie >= chei[n - 1]) {
+        return;
+      }
+      int pozitie = Arrays.binarySearch(chei, 0, n, cheie);
+      pozitie = pozitie < 0 ? -pozitie - 1 : pozitie;
+      if (n < limit) {
+        if (n == chei.length) {
+          chei = Arrays.copyOf(chei, Math.min(limit, n * 2));
+        }
+        n++;
+      }
+      System.arraycopy(chei, pozitie, chei, pozitie + 1, n - pozitie - 1);
+      chei[pozitie] = cheie;
+    }
+
+    long[] rezultat() {
+      long[] rezultat = Arrays.copyOf(chei, n);
+      if (limit > SELECTIE_MAXIMA) {
+        Arrays.sort(rezultat);
+        if (rezultat.length > limit) {
+          rezultat = Arrays.copyOf(rezultat, limit);
+        }
+      }
+      return rezultat;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Rezultatele unei rulari impreuna cu un index secundar dupa data crearii dosarului (data
+ * locala a {@code created_at}). Un interval de date se rezolva prin cautare binara la o felie
+ * contigua a indexului, deci filtrarea costa O(log n + k) in loc de O(n).
+ * Instantele sunt imuabile.
+ */
+public final class IndexDataRezultate {
+
+  static final IndexDataRezultate GOL = new IndexDataRezultate(List.of());
+
+  private final List<RezultatAdmitereResponse> rezultate;
+  // Cheile sortate: ziua (epoch day) in bitii de sus, pozitia in clasament in cei de jos.
+  private final long[] chei;
+
+  IndexDataRezultate(List<RezultatAdmitereResponse> rezultate) {
+    this.rezultate = List.copyOf(rezultate);
+    long[] chei = new long[this.rezultate.size()];
+    int count = 0;
+    for (int i = 0; i < chei.length; i++) {
+      RezultatAdmitereResponse rezultat = this.rezultate.get(i);
+      // Dosarele fara data nu apar in niciun interval.
+      if (rezultat.createdAt() != null) {
+        chei[count++] = (rezultat.createdAt().toLocalDate().toEpochDay() << 32) | i;
+      }
+    }
+    this.chei = Arrays.copyOf(chei, count);
+    Arrays.parallelSort(this.chei);
+  }
+
+  /**
+   * Toate rezultatele, in ordinea clasamentului.
+   */
+  public List<RezultatAdmitereResponse> rezultate() {
+    return rezultate;
+  }
+
+  /**
+   * Rezultatele cu data crearii in intervalul dat, inclusiv capetele; un capat null nu
+   * limiteaza. Fara niciun capat, intoarce {@link #rezultate()}; altfel rezultatele sunt
+   * ordonate dupa data, iar in aceeasi zi in ordinea clasamentului.
+   */
+  public List<RezultatAdmitereResponse> intre(LocalDate start, LocalDate end) {
+    if (start == null && end == null) {
+      return rezultate;
+    }
+    int de = start == null ? 0 : primaCheie(start.toEpochDay());
+    int pana = end == null ? chei.length : primaCheie(end.toEpochDay() + 1);
+    return new Felie(de, Math.max(de, pana));
+  }
+
+  // Indexul primei chei din ziua data sau de dupa ea.
+  private int primaCheie(long zi) {
+    int index = Arrays.binarySearch(chei, zi << 32);
+    return index < 0 ? -index - 1 : index;
+  }
+
+  /**
+   * Vedere doar pentru citire asupra cheilor [de, pana).
+   */
+  private final class Felie extends AbstractList<RezultatAdmitereResponse>
+      implements RandomAccess {
+
+    private final int de;
+    private final int pana;
+
+    Felie(int de, int pana) {
+      this.de = de;
+      this.pana = pana;
+    }
+
+    @Override
+    public RezultatAdmitereResponse get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      return rezultate.get((int) chei[de + index]);
+    }
+
+    @Override
+    public int size() {
+      return pana - de;
+    }
+  }
+}
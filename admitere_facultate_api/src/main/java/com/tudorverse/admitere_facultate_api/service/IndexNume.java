@@ -0,0 +1,230 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.SugestieResponse;
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.model.ProgramStudiu;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sugestii de autocompletare pentru numele facultatilor si ale programelor de studiu, fara
+ * interogari. Numele pliate ({@link Pliere}) sunt tinute sortate in memorie, o data intregi si
+ * o data de la fiecare cuvant urmator, iar un prefix este cautat binar: "info" gaseste
+ * "Facultatea de Informatica". Potrivirile de la inceputul numelui vin primele.
+ *
+ * <p>Numele sunt incarcate la pornire si actualizate de controllere dupa fiecare scriere
+ * salvata. O scriere reconstruieste tablourile tipului ei (cateva sute de nume), iar cautarile
+ * citesc ultima versiune publicata, fara lock.
+ */
+@Component
+public class IndexNume implements CommandLineRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IndexNume.class);
+
+  private final FacultateRepository facultateRepository;
+  private final ProgramStudiuRepository programStudiuRepository;
+  private final Catalog facultati = new Catalog();
+  private final Catalog programe = new Catalog();
+  private boolean incarcat;
+
+  public IndexNume(FacultateRepository facultateRepository,
+      ProgramStudiuRepository programStudiuRepository) {
+    this.facultateRepository = facultateRepository;
+    this.programStudiuRepository = programStudiuRepository;
+  }
+
+  @Override
+  public void run(String... args) {
+    try {
+      incarca();
+    } catch (DataAccessException ex) {
+      // Se reincearca la prima cautare.
+      LOGGER.warn("Indexul numelor nu a fost construit: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * Citeste numele din baza de date. Scrierile asteapta terminarea citirii, deci una salvata
+   * dupa citire este aplicata peste datele incarcate, nu pierduta.
+   */
+  synchronized void incarca() {
+    Map<Long, String> numeFacultati = new HashMap<>();
+    for (Facultate facultate : facultateRepository.findAll()) {
+      numeFacultati.put(facultate.getId(), facultate.getNume());
+    }
+    Map<Long, String> numePrograme = new HashMap<>();
+    for (ProgramStudiu program : programStudiuRepository.findAll()) {
+      numePrograme.put(program.getId(), program.getNume());
+    }
+    facultati.inlocuieste(numeFacultati);
+    programe.inlocuieste(numePrograme);
+    incarcat = true;
+  }
+
+  /**
+   * Cel mult {@code limit} facultati al caror nume sau un cuvant din nume incepe cu
+   * prefixul dat, fara diacritice si majuscule.
+   */
+  public List<SugestieResponse> facultati(String prefix, int limit) {
+    return cauta(facultati, prefix, limit);
+  }
+
+  /**
+   * Cel mult {@code limit} programe de studiu al caror nume sau un cuvant din nume incepe cu
+   * prefixul dat, fara diacritice si majuscule.
+   */
+  public List<SugestieResponse> programe(String prefix, int limit) {
+    return cauta(programe, prefix, limit);
+  }
+
+  /**
+   * Inregistreaza o facultate creata sau redenumita.
+   */
+  public synchronized void facultateSalvata(Facultate facultate) {
+    if (incarcat) {
+      facultati.scrie(facultate.getId(), facultate.getNume());
+    }
+  }
+
+  /**
+   * Scoate o facultate stearsa.
+   */
+  public synchronized void facultateStearsa(Long id) {
+    if (incarcat) {
+      facultati.scrie(id, null);
+    }
+  }
+
+  /**
+   * Inregistreaza un program de studiu creat sau redenumit.
+   */
+  public synchronized void programSalvat(ProgramStudiu program) {
+    if (incarcat) {
+      programe.scrie(program.getId(), program.getNume());
+    }
+  }
+
+  /**
+   * Scoate un program de studiu sters.
+   */
+  public synchronized void programSters(Long id) {
+    if (incarcat) {
+      programe.scrie(id, null);
+    }
+  }
+
+  private List<SugestieResponse> cauta(Catalog catalog, String prefix, int limit) {
+    Prefixe prefixe = catalog.prefixe;
+    if (prefixe == null) {
+      synchronized (this) {
+        if (!incarcat) {
+          incarca();
+        }
+      }
+      prefixe = catalog.prefixe;
+    }
+    String pliat = Pliere.pliaza(prefix);
+    return prefixe.cauta(pliat == null ? "" : pliat, limit);
+  }
+
+  /**
+   * Numele unui tip, modificate doar sub lock-ul indexului; cautarile citesc doar prefixele.
+   */
+  private static final class Catalog {
+
+    private final Map<Long, String> nume = new HashMap<>();
+    private volatile Prefixe prefixe;
+
+    void inlocuieste(Map<Long, String> toate) {
+      nume.clear();
+      nume.putAll(toate);
+      prefixe = new Prefixe(nume);
+    }
+
+    void scrie(Long id, String valoare) {
+      if (valoare == null) {
+        nume.remove(id);
+      } else {
+        nume.put(id, valoare);
+      }
+      prefixe = new Prefixe(nume);
+    }
+  }
+
+  private record Intrare(String cheie, long id, String nume) {
+  }
+
+  /**
+   * Tablourile sortate dupa cheia pliata: numele intregi si sufixele care incep cu un cuvant.
+   */
+  private static final class Prefixe {
+
+    private static final Comparator<Intrare> ORDINE =
+        Comparator.comparing(Intrare::cheie).thenComparingLong(Intrare::id);
+
+    private final Intrare[] intregi;
+    private final Intrare[] cuvinte;
+
+    Prefixe(Map<Long, String> nume) {
+      List<Intrare> intregi = new ArrayList<>();
+      List<Intrare> cuvinte = new ArrayList<>();
+      for (Map.Entry<Long, String> intrare : nume.entrySet()) {
+        String pliat = Pliere.pliaza(intrare.getValue());
+        intregi.add(new Intrare(pliat, intrare.getKey(), intrare.getValue()));
+        for (int i = 1; i < pliat.length(); i++) {
+          if (Character.isLetterOrDigit(pliat.charAt(i))
+              && !Character.isLetterOrDigit(pliat.charAt(i - 1))) {
+            cuvinte.add(new Intrare(pliat.substring(i), intrare.getKey(), intrare.getValue()));
+          }
+        }
+      }
+      this.intregi = intregi.toArray(Intrare[]::new);
+      this.cuvinte = cuvinte.toArray(Intrare[]::new);
+      Arrays.sort(this.intregi, ORDINE);
+      Arrays.sort(this.cuvinte, ORDINE);
+    }
+
+    List<SugestieResponse> cauta(String prefix, int limit) {
+      List<SugestieResponse> rezultat = new ArrayList<>();
+      Set<Long> gasite = new HashSet<>();
+      for (Intrare[] intrari : new Intrare[][] {intregi, cuvinte}) {
+        for (int i = primul(intrari, prefix); i < intrari.length && rezultat.size() < limit
+            && intrari[i].cheie().startsWith(prefix); i++) {
+          // Un nume poate avea mai multe cuvinte cu acelasi prefix.
+          if (gasite.add(intrari[i].id())) {
+            rezultat.add(new SugestieResponse(intrari[i].id(), intrari[i].nume()));
+          }
+        }
+      }
+      return rezultat;
+    }
+
+    // Prima intrare cu cheia cel putin egala cu prefixul.
+    private static int primul(Intrare[] intrari, String prefix) {
+      int jos = 0;
+      int sus = intrari.length;
+      while (jos < sus) {
+        int mijloc = (jos + sus) >>> 1;
+        if (intrari[mijloc].cheie().compareTo(prefix) < 0) {
+          jos = mijloc + 1;
+        } else {
+          sus = mijloc;
+        }
+      }
+      return jos;
+    }
+  }
+}
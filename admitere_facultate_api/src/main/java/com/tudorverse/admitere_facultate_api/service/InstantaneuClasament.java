@@ -0,0 +1,112 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.LocuriProgramRequest;
+import com.tudorverse.admitere_facultate_api.dto.OcupareProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriRequest;
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriResponse;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copie imuabila a clasamentului unei rulari (optiunile in format CSR, media scalata pe
+ * pozitie si locurile initiale pe ordinal), pe care se pot simula oricate scenarii de locuri
+ * in paralel, fara baza de date si fara a atinge starea procesarii.
+ */
+final class InstantaneuClasament {
+
+  private final int size;
+  private final int[] offsets;
+  private final int[] tinte;
+  private final int[] medii;
+  private final int[] locuriInitiale;
+  private final Map<Long, Integer> ordinale;
+  private final Map<Long, ProgramStudiuResponse> catalog;
+  // Programele din catalog, ordonate dupa id, pentru raspunsuri stabile.
+  private final List<ProgramStudiuResponse> programe;
+
+  InstantaneuClasament(int size, int[] offsets, int[] tinte, int[] medii, int[] locuriInitiale,
+      Map<Long, Integer> ordinale, Map<Long, ProgramStudiuResponse> catalog) {
+    this.size = size;
+    this.offsets = offsets;
+    this.tinte = tinte;
+    this.medii = medii;
+    this.locuriInitiale = locuriInitiale;
+    this.ordinale = Map.copyOf(ordinale);
+    this.catalog = Map.copyOf(catalog);
+    this.programe = catalog.values().stream()
+        .sorted(Comparator.comparing(ProgramStudiuResponse::id))
+        .toList();
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Aloca clasamentul cu locurile scenariului. Fiecare apel lucreaza doar pe tablouri
+   * proprii, deci scenariile pot rula concurent.
+   */
+  ScenariuLocuriResponse simuleaza(ScenariuLocuriRequest scenariu) {
+    int[] locuri = Arrays.copyOf(locuriInitiale, locuriInitiale.length);
+    if (scenariu.locuri() != null) {
+      for (LocuriProgramRequest suprascriere : scenariu.locuri()) {
+        aplica(locuri, suprascriere);
+      }
+    }
+
+    int[] ocupate = new int[locuri.length];
+    int[] ultimaPozitie = new int[locuri.length];
+    Arrays.fill(ultimaPozitie, -1);
+    int admisi = 0;
+    for (int i = 0; i < size; i++) {
+      for (int j = offsets[i], stop = offsets[i + 1]; j < stop; j++) {
+        int program = tinte[j];
+        if (ocupate[program] < locuri[program]) {
+          ocupate[program]++;
+          ultimaPozitie[program] = i;
+          admisi++;
+          break;
+        }
+      }
+    }
+
+    List<OcupareProgramResponse> ocupare = new ArrayList<>(programe.size());
+    for (ProgramStudiuResponse program : programe) {
+      int ordinal = ordinale.get(program.id());
+      int ultima = ultimaPozitie[ordinal];
+      ocupare.add(new OcupareProgramResponse(
+          program.id(),
+          program.nume(),
+          program.facultateNume(),
+          locuri[ordinal],
+          ocupate[ordinal],
+          locuri[ordinal] - ocupate[ordinal],
+          ultima < 0 ? null : BigDecimal.valueOf(medii[ultima], 2),
+          ultima < 0 ? null : ultima + 1));
+    }
+    return new ScenariuLocuriResponse(scenariu.nume(), admisi, size - admisi, ocupare);
+  }
+
+  private void aplica(int[] locuri, LocuriProgramRequest suprascriere) {
+    ProgramStudiuResponse program = suprascriere.programId() == null
+        ? null
+        : catalog.get(suprascriere.programId());
+    if (program == null) {
+      throw new IllegalArgumentException("Program inexistent: " + suprascriere.programId());
+    }
+    int buget = suprascriere.locuriBuget() != null
+        ? suprascriere.locuriBuget()
+        : program.locuriBuget();
+    int taxa = suprascriere.locuriTaxa() != null ? suprascriere.locuriTaxa() : program.locuriTaxa();
+    if (buget < 0 || taxa < 0) {
+      throw new IllegalArgumentException("Numar de locuri negativ pentru programul "
+          + program.id());
+    }
+    locuri[ordinale.get(program.id())] = buget + taxa;
+  }
+}
@@ -0,0 +1,38 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+
+/**
+ * Pozitie din clasamentul admiterii: datele unui dosar validat si optiunile lui ordonate
+ * dupa prioritate. Media este pastrata si scalata la intreg (sutimi) pentru comparatii.
+ */
+record IntrareClasament(Long dosarId, Long candidatId, String candidatNume,
+    String candidatPrenume, BigDecimal medie, int medieScalata, OffsetDateTime createdAt,
+    long[] programIds, int[] prioritati) {
+
+  // Valoare scalata pentru dosarele fara medie; ordinea descrescatoare le pune ultimele.
+  static final int FARA_MEDIE = Integer.MIN_VALUE;
+
+  IntrareClasament(Long dosarId, Long candidatId, String candidatNume, String candidatPrenume,
+      BigDecimal medie, OffsetDateTime createdAt, long[] programIds, int[] prioritati) {
+    this(dosarId, candidatId, candidatNume, candidatPrenume, medie, scaleazaMedie(medie),
+        createdAt, programIds, prioritati);
+  }
+
+  IntrareClasament cuCandidat(String nume, String prenume) {
+    return new IntrareClasament(dosarId, candidatId, nume, prenume, medie, medieScalata,
+        createdAt, programIds, prioritati);
+  }
+
+  /**
+   * Media in sutimi; coloana este numeric(4,2), deci conversia este exacta.
+   */
+  static int scaleazaMedie(BigDecimal medie) {
+    if (medie == null) {
+      return FARA_MEDIE;
+    }
+    return medie.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().intValueExact();
+  }
+}
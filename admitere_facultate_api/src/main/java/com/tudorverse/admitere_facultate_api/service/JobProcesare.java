@@ -0,0 +1,92 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.JobProcesareResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
+import java.time.OffsetDateTime;
+
+/**
+ * Un job de procesare rulat in fundal. Campurile sunt scrise de firul jobului si citite de
+ * cererile de stare, deci sunt volatile.
+ */
+final class JobProcesare implements ProgresProcesare {
+
+  private final String id;
+  private final boolean incremental;
+  private final boolean verificare;
+  private final OffsetDateTime pornit = OffsetDateTime.now();
+
+  private volatile FazaProcesare faza = FazaProcesare.IN_ASTEPTARE;
+  private volatile int procesate;
+  private volatile int total;
+  private volatile boolean anulareCeruta;
+  private volatile OffsetDateTime terminat;
+  private volatile ProcesareAdmitereResponse rezultat;
+  private volatile String eroare;
+
+  JobProcesare(String id, boolean incremental, boolean verificare) {
+    this.id = id;
+    this.incremental = incremental;
+    this.verificare = verificare;
+  }
+
+  String id() {
+    return id;
+  }
+
+  boolean incremental() {
+    return incremental;
+  }
+
+  boolean verificare() {
+    return verificare;
+  }
+
+  boolean terminat() {
+    return faza.terminala();
+  }
+
+  void cereAnulare() {
+    anulareCeruta = true;
+  }
+
+  @Override
+  public void faza(FazaProcesare fazaNoua, int totalFaza) {
+    this.procesate = 0;
+    this.total = totalFaza;
+    this.faza = fazaNoua;
+  }
+
+  @Override
+  public void procesate(int procesateFaza) {
+    this.procesate = procesateFaza;
+  }
+
+  @Override
+  public boolean anulareCeruta() {
+    return anulareCeruta;
+  }
+
+  void finalizat(ProcesareAdmitereResponse rezultatJob) {
+    this.rezultat = rezultatJob;
+    termina(FazaProcesare.FINALIZAT);
+  }
+
+  void anulat() {
+    termina(FazaProcesare.ANULAT);
+  }
+
+  void esuat(String mesaj) {
+    this.eroare = mesaj;
+    termina(FazaProcesare.ESUAT);
+  }
+
+  JobProcesareResponse toResponse() {
+    return new JobProcesareResponse(id, faza.name(), procesate, total, anulareCeruta, pornit,
+        terminat, rezultat, eroare);
+  }
+
+  private void termina(FazaProcesare fazaFinala) {
+    this.terminat = OffsetDateTime.now();
+    this.faza = fazaFinala;
+  }
+}
@@ -0,0 +1,116 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.JobProcesareResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Ruleaza procesarea admiterii in fundal, pe fire virtuale dedicate, ca cererea HTTP sa nu
+ * tina ocupat un fir Tomcat si o conexiune la baza de date pana la final.
+ */
+@Service
+public class JobProcesareService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobProcesareService.class);
+
+  // Joburile terminate peste aceasta limita sunt uitate, cele mai vechi primele.
+  private static final int JOBURI_PASTRATE = 20;
+
+  private final ProcesareAdmitereService procesareAdmitereService;
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("procesare-admitere-", 0).factory());
+  private final Map<String, JobProcesare> joburi = new LinkedHashMap<>();
+
+  public JobProcesareService(ProcesareAdmitereService procesareAdmitereService) {
+    this.procesareAdmitereService = procesareAdmitereService;
+  }
+
+  /**
+   * Porneste un job si returneaza imediat starea lui initiala.
+   */
+  public JobProcesareResponse porneste(boolean incremental, boolean verificare) {
+    JobProcesare job = new JobProcesare(UUID.randomUUID().toString(), incremental, verificare);
+    synchronized (joburi) {
+      joburi.put(job.id(), job);
+      curataJoburiVechi();
+    }
+    executor.execute(() -> ruleaza(job));
+    return job.toResponse();
+  }
+
+  public Optional<JobProcesareResponse> gaseste(String id) {
+    synchronized (joburi) {
+      return Optional.ofNullable(joburi.get(id)).map(JobProcesare::toResponse);
+    }
+  }
+
+  /**
+   * Listeaza joburile pastrate, cele mai recente primele.
+   */
+  public List<JobProcesareResponse> listeaza() {
+    synchronized (joburi) {
+      List<JobProcesareResponse> lista = new ArrayList<>(joburi.size());
+      for (JobProcesare job : joburi.values()) {
+        lista.add(0, job.toResponse());
+      }
+      return lista;
+    }
+  }
+
+  /**
+   * Cere anularea jobului; rularea se opreste la urmatorul punct de verificare, iar
+   * rezultatele publicate anterior raman neschimbate.
+   */
+  public Optional<JobProcesareResponse> anuleaza(String id) {
+    synchronized (joburi) {
+      JobProcesare job = joburi.get(id);
+      if (job == null) {
+        return Optional.empty();
+      }
+      job.cereAnulare();
+      return Optional.of(job.toResponse());
+    }
+  }
+
+  @PreDestroy
+  void opreste() {
+    synchronized (joburi) {
+      joburi.values().forEach(JobProcesare::cereAnulare);
+    }
+    executor.shutdown();
+  }
+
+  private void ruleaza(JobProcesare job) {
+    try {
+      job.finalizat(procesareAdmitereService.proceseazaAdmitere(job.incremental(),
+          job.verificare(), job));
+    } catch (ProcesareAnulataException ex) {
+      job.anulat();
+    } catch (RuntimeException ex) {
+      LOGGER.error("Jobul de procesare {} a esuat", job.id(), ex);
+      job.esuat(ex.getMessage());
+    }
+  }
+
+  private void curataJoburiVechi() {
+    int deEliminat = joburi.size() - JOBURI_PASTRATE;
+    Iterator<JobProcesare> iterator = joburi.values().iterator();
+    while (deEliminat > 0 && iterator.hasNext()) {
+      if (iterator.next().terminat()) {
+        iterator.remove();
+        deEliminat--;
+      }
+    }
+  }
+}
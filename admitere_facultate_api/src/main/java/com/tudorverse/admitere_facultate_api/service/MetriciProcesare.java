@@ -0,0 +1,138 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ProfilRulareResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Metrici Micrometer pentru rularile de procesare, vizibile la /actuator/metrics:
+ * <ul>
+ *   <li>{@code admitere.procesare} - durata rularilor, dupa rezultat si mod;</li>
+ *   <li>{@code admitere.procesare.faza} - durata fiecarei faze, iar
+ *       {@code admitere.procesare.faza.ultima} durata ei in ultima rulare;</li>
+ *   <li>{@code admitere.procesare.ultima.*} - dosarele procesate, admise si nealocate si
+ *       durata ultimei rulari terminate cu succes;</li>
+ *   <li>{@code admitere.procesare.rezultate.maxim} - cel mai mare numar de rezultate al unei
+ *       rulari.</li>
+ * </ul>
+ * Pastreaza si profilele ultimelor rulari, expuse la /actuator/admitere.
+ */
+@Component
+public class MetriciProcesare {
+
+  private final MeterRegistry registry;
+  private final int profilePastrate;
+  private final Deque<ProfilRulareResponse> profile = new ArrayDeque<>();
+
+  private final AtomicLong ultimeleDosare = new AtomicLong();
+  private final AtomicLong ultimeleAdmise = new AtomicLong();
+  private final AtomicLong ultimeleNealocate = new AtomicLong();
+  private final AtomicLong ultimaDurataNano = new AtomicLong();
+  private final AtomicLong rezultateMaxim = new AtomicLong();
+  private final Map<String, AtomicLong> ultimaFaza = new ConcurrentHashMap<>();
+
+  public MetriciProcesare(MeterRegistry registry,
+      @Value("${admitere.metrici.profile-pastrate:20}") int profilePastrate) {
+    this.registry = registry;
+    this.profilePastrate = profilePastrate;
+    Gauge.builder("admitere.procesare.ultima.dosare", ultimeleDosare, AtomicLong::get)
+        .description("Dosare procesate in ultima rulare").register(registry);
+    Gauge.builder("admitere.procesare.ultima.admise", ultimeleAdmise, AtomicLong::get)
+        .description("Dosare admise in ultima rulare").register(registry);
+    Gauge.builder("admitere.procesare.ultima.nealocate", ultimeleNealocate, AtomicLong::get)
+        .description("Dosare nealocate in ultima rulare").register(registry);
+    TimeGauge.builder("admitere.procesare.ultima.durata", ultimaDurataNano,
+            TimeUnit.NANOSECONDS, AtomicLong::get)
+        .description("Durata ultimei rulari").register(registry);
+    Gauge.builder("admitere.procesare.rezultate.maxim", rezultateMaxim, AtomicLong::get)
+        .description("Cel mai mare numar de rezultate al unei rulari").register(registry);
+  }
+
+  /**
+   * Inregistreaza o rulare terminata cu succes.
+   */
+  void finalizata(ProfilRulare profil, boolean incremental, int dosare, int admise) {
+    long durata = inregistreaza(profil, FazaProcesare.FINALIZAT, incremental, dosare, admise);
+    ultimeleDosare.set(dosare);
+    ultimeleAdmise.set(admise);
+    ultimeleNealocate.set(dosare - admise);
+    ultimaDurataNano.set(durata);
+    rezultateMaxim.accumulateAndGet(dosare, Math::max);
+  }
+
+  /**
+   * Inregistreaza o rulare anulata sau esuata; rezultatele publicate raman cele anterioare.
+   */
+  void intrerupta(ProfilRulare profil, boolean incremental, boolean anulata) {
+    inregistreaza(profil, anulata ? FazaProcesare.ANULAT : FazaProcesare.ESUAT, incremental,
+        0, 0);
+  }
+
+  /**
+   * Profilele ultimelor rulari, cele mai recente primele.
+   */
+  public List<ProfilRulareResponse> profileRecente() {
+    synchronized (profile) {
+      return new ArrayList<>(profile);
+    }
+  }
+
+  private long inregistreaza(ProfilRulare profil, FazaProcesare rezultat, boolean incremental,
+      int dosare, int admise) {
+    long durata = profil.durataNano();
+    Timer.builder("admitere.procesare")
+        .description("Durata rularilor de procesare a admiterii")
+        .tag("rezultat", rezultat.name())
+        .tag("incremental", Boolean.toString(incremental))
+        .register(registry)
+        .record(durata, TimeUnit.NANOSECONDS);
+
+    Map<String, Double> fazeMs = new LinkedHashMap<>();
+    profil.faze().forEach((faza, nano) -> {
+      Timer.builder("admitere.procesare.faza")
+          .description("Durata fazelor procesarii admiterii")
+          .tag("faza", faza)
+          .register(registry)
+          .record(nano, TimeUnit.NANOSECONDS);
+      ultimaFaza.computeIfAbsent(faza, this::gaugeFaza).set(nano);
+      fazeMs.put(faza, milisecunde(nano));
+    });
+
+    ProfilRulareResponse raspuns = new ProfilRulareResponse(profil.pornit(), rezultat.name(),
+        incremental, milisecunde(durata), dosare, admise, dosare - admise, fazeMs);
+    synchronized (profile) {
+      profile.addFirst(raspuns);
+      while (profile.size() > profilePastrate) {
+        profile.removeLast();
+      }
+    }
+    return durata;
+  }
+
+  private AtomicLong gaugeFaza(String faza) {
+    AtomicLong valoare = new AtomicLong();
+    TimeGauge.builder("admitere.procesare.faza.ultima", valoare, TimeUnit.NANOSECONDS,
+            AtomicLong::get)
+        .description("Durata fazei in ultima rulare care a rulat-o")
+        .tag("faza", faza)
+        .register(registry);
+    return valoare;
+  }
+
+  private static double milisecunde(long nano) {
+    return nano / 1_000_000.0;
+  }
+}
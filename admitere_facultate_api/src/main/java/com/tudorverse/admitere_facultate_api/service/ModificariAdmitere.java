@@ -0,0 +1,84 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jurnal in memorie al dosarelor si candidatilor modificati prin API de la ultima procesare.
+ * Este folosit de procesarea incrementala pentru a sti ce pozitii din clasament trebuie reluate.
+ * Tine si o versiune a datelor de intrare, incrementata la fiecare modificare.
+ */
+@Component
+public class ModificariAdmitere {
+
+  // Peste acest numar de modificari o rulare completa este mai ieftina decat una incrementala.
+  static final int LIMITA_MODIFICARI = 10_000;
+
+  private Set<Long> dosarIds = new HashSet<>();
+  private Set<Long> candidatIds = new HashSet<>();
+  private long versiune;
+
+  /**
+   * Marcheaza un dosar ca modificat (date proprii sau optiunile lui).
+   */
+  public synchronized void dosarModificat(Long dosarId) {
+    if (dosarId != null) {
+      dosarIds.add(dosarId);
+    }
+    versiune++;
+  }
+
+  /**
+   * Marcheaza un candidat ca modificat (nume/prenume afisate in rezultate).
+   */
+  public synchronized void candidatModificat(Long candidatId) {
+    if (candidatId != null) {
+      candidatIds.add(candidatId);
+    }
+    versiune++;
+  }
+
+  /**
+   * Marcheaza o modificare de facultati sau programe. Rularile citesc catalogul din
+   * {@link CatalogReferinta}, invalidat de aceeasi scriere, deci doar versiunea se schimba.
+   */
+  public synchronized void catalogModificat() {
+    versiune++;
+  }
+
+  /**
+   * Versiunea curenta a datelor de intrare; creste la fiecare modificare inregistrata.
+   */
+  public synchronized long versiune() {
+    return versiune;
+  }
+
+  /**
+   * Continua numerotarea versiunilor dupa cea a unei rulari restaurate, ca versiunile sa
+   * ramana crescatoare si dupa un restart.
+   */
+  synchronized void continuaDupa(long versiuneRestaurata) {
+    versiune = Math.max(versiune, versiuneRestaurata);
+  }
+
+  /**
+   * Preia atomic modificarile acumulate si goleste jurnalul.
+   */
+  synchronized Lot preia() {
+    Lot lot = new Lot(dosarIds, candidatIds);
+    dosarIds = new HashSet<>();
+    candidatIds = new HashSet<>();
+    return lot;
+  }
+
+  /**
+   * Modificarile preluate pentru o rulare.
+   */
+  record Lot(Set<Long> dosarIds, Set<Long> candidatIds) {
+
+    boolean preaMulte() {
+      return dosarIds.size() + candidatIds.size() > LIMITA_MODIFICARI;
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Nucleul de alocare pe tablouri primitive. Programele primesc ordinale dense, locurile sunt
+ * un {@code int[]}, iar optiunile pozitiilor din clasament sunt stocate compact (CSR):
+ * optiunile pozitiei {@code i} sunt {@code tinte[offsets[i] .. offsets[i + 1])}.
+ * Bucla de alocare nu face boxing si nu aloca memorie.
+ * Nu este thread-safe.
+ */
+final class NucleuAlocare {
+
+  // Marcheaza o pozitie pentru care nu s-a gasit loc la nicio optiune.
+  static final int NEALOCAT = -1;
+
+  // Ordinalele nu se refolosesc: un program sters ramane cu 0 locuri.
+  private final Map<Long, Integer> ordinale = new HashMap<>();
+  private int programe;
+  private int[] locuriInitiale = new int[16];
+  private int[] locuri = new int[16];
+  // Ultima pozitie admisa pe fiecare program, inregistrata chiar de bucla de alocare.
+  private int[] ultimaPozitie = new int[16];
+
+  private int size;
+  private int[] offsets = new int[17];
+  private int[] tinte = new int[64];
+  // Indexul optiunii (relativ la pozitie) pe care a fost admis dosarul.
+  private int[] alocari = new int[16];
+
+  int size() {
+    return size;
+  }
+
+  int programe() {
+    return programe;
+  }
+
+  /**
+   * Returneaza ordinalul programului, alocand unul nou la prima aparitie.
+   */
+  int ordinal(long programId) {
+    Integer existent = ordinale.get(programId);
+    if (existent != null) {
+      return existent;
+    }
+    int ordinal = programe++;
+    if (ordinal >= locuriInitiale.length) {
+      locuriInitiale = Arrays.copyOf(locuriInitiale, locuriInitiale.length * 2);
+      locuri = new int[locuriInitiale.length];
+      ultimaPozitie = new int[locuriInitiale.length];
+    }
+    ordinale.put(programId, ordinal);
+    return ordinal;
+  }
+
+  /**
+   * Inlocuieste locurile initiale; tabloul este indexat dupa ordinal si are
+   * cel putin {@link #programe()} elemente.
+   */
+  void seteazaLocuri(int[] locuriNoi) {
+    System.arraycopy(locuriNoi, 0, locuriInitiale, 0, programe);
+  }
+
+  /**
+   * Adauga o pozitie la finalul clasamentului.
+   */
+  void adauga(long[] programIds) {
+    insereaza(size, programIds);
+  }
+
+  /**
+   * Insereaza o pozitie noua (nealocata) inaintea pozitiei date.
+   */
+  void insereaza(int pozitie, long[] programIds) {
+    int k = programIds.length;
+    int startOptiuni = offsets[pozitie];
+    int totalOptiuni = offsets[size];
+    asiguraCapacitate(size + 1, totalOptiuni + k);
+
+    System.arraycopy(tinte, startOptiuni, tinte, startOptiuni + k, totalOptiuni - startOptiuni);
+    for (int j = 0; j < k; j++) {
+      tinte[startOptiuni + j] = ordinal(programIds[j]);
+    }
+    System.arraycopy(offsets, pozitie + 1, offsets, pozitie + 2, size - pozitie);
+    offsets[pozitie + 1] = startOptiuni + k;
+    for (int i = pozitie + 2; i <= size + 1; i++) {
+      offsets[i] += k;
+    }
+    System.arraycopy(alocari, pozitie, alocari, pozitie + 1, size - pozitie);
+    alocari[pozitie] = NEALOCAT;
+    size++;
+  }
+
+  /**
+   * Elimina pozitia data din clasament.
+   */
+  void elimina(int pozitie) {
+    int startOptiuni = offsets[pozitie];
+    int k = offsets[pozitie + 1] - startOptiuni;
+    int totalOptiuni = offsets[size];
+
+    System.arraycopy(tinte, startOptiuni + k, tinte, startOptiuni,
+        totalOptiuni - startOptiuni - k);
+    System.arraycopy(offsets, pozitie + 2, offsets, pozitie + 1, size - pozitie - 1);
+    for (int i = pozitie + 1; i < size; i++) {
+      offsets[i] -= k;
+    }
+    System.arraycopy(alocari, pozitie + 1, alocari, pozitie, size - pozitie - 1);
+    size--;
+  }
+
+  /**
+   * Reia alocarea de la pozitia data. Locurile ramase se reconstruiesc din deciziile
+   * pozitiilor anterioare. Returneaza numarul de pozitii reluate.
+   */
+  int aloca(int start) {
+    int from = pregateste(start);
+    alocaInterval(from, size);
+    return size - from;
+  }
+
+  /**
+   * Reconstruieste locurile ramase inaintea pozitiei date si returneaza pozitia (limitata la
+   * {@link #size()}) de la care trebuie reluata alocarea.
+   */
+  int pregateste(int start) {
+    int from = Math.max(0, Math.min(start, size));
+    System.arraycopy(locuriInitiale, 0, locuri, 0, programe);
+    Arrays.fill(ultimaPozitie, 0, programe, -1);
+    for (int i = 0; i < from; i++) {
+      if (alocari[i] != NEALOCAT) {
+        int program = tinte[offsets[i] + alocari[i]];
+        locuri[program]--;
+        ultimaPozitie[program] = i;
+      }
+    }
+    return from;
+  }
+
+  /**
+   * Aloca pozitiile {@code [from, to)}; pozitiile anterioare trebuie sa fie deja alocate
+   * dupa un apel {@link #pregateste(int)}.
+   */
+  void alocaInterval(int from, int to) {
+    for (int i = from; i < to; i++) {
+      int alocat = NEALOCAT;
+      for (int j = offsets[i], stop = offsets[i + 1]; j < stop; j++) {
+        int program = tinte[j];
+        if (locuri[program] > 0) {
+          locuri[program]--;
+          ultimaPozitie[program] = i;
+          alocat = j - offsets[i];
+          break;
+        }
+      }
+      alocari[i] = alocat;
+    }
+  }
+
+  /**
+   * Prima pozitie la care un program ar fi gasit altfel (plin in loc de liber sau invers)
+   * cu locurile noi decat cu cele curente, sau {@link #size()} daca nu exista.
+   */
+  int primaDivergenta(int[] locuriNoi) {
+    boolean[] modificat = new boolean[programe];
+    boolean oricare = false;
+    for (int p = 0; p < programe; p++) {
+      modificat[p] = locuriInitiale[p] != locuriNoi[p];
+      oricare |= modificat[p];
+    }
+    if (!oricare) {
+      return size;
+    }
+
+    int[] admisi = new int[programe];
+    for (int i = 0; i < size; i++) {
+      int ultimaExaminata = alocari[i] == NEALOCAT
+          ? offsets[i + 1] - 1
+          : offsets[i] + alocari[i];
+      for (int j = offsets[i]; j <= ultimaExaminata; j++) {
+        int program = tinte[j];
+        if (modificat[program]
+            && (locuriInitiale[program] - admisi[program] > 0)
+                != (locuriNoi[program] - admisi[program] > 0)) {
+          return i;
+        }
+      }
+      if (alocari[i] != NEALOCAT) {
+        admisi[tinte[offsets[i] + alocari[i]]]++;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Copiaza clasamentul si locurile curente intr-un {@link InstantaneuClasament} imuabil.
+   */
+  InstantaneuClasament instantaneu(int[] medii, Map<Long, ProgramStudiuResponse> catalog) {
+    return new InstantaneuClasament(size, Arrays.copyOf(offsets, size + 1),
+        Arrays.copyOf(tinte, offsets[size]), medii, Arrays.copyOf(locuriInitiale, programe),
+        ordinale, catalog);
+  }
+
+  int locuriInitiale(int ordinal) {
+    return locuriInitiale[ordinal];
+  }
+
+  /**
+   * Locurile ramase pe program dupa ultima alocare.
+   */
+  int locuriRamase(int ordinal) {
+    return locuri[ordinal];
+  }
+
+  /**
+   * Ultima pozitie admisa pe program dupa ultima alocare, sau {@link #NEALOCAT}.
+   */
+  int ultimaPozitie(int ordinal) {
+    return ultimaPozitie[ordinal];
+  }
+
+  int alocare(int pozitie) {
+    return alocari[pozitie];
+  }
+
+  int admisi() {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (alocari[i] != NEALOCAT) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void asiguraCapacitate(int pozitii, int optiuni) {
+    if (pozitii >= alocari.length) {
+      int capacitate = Math.max(pozitii, alocari.length * 2);
+      alocari = Arrays.copyOf(alocari, capacitate);
+      offsets = Arrays.copyOf(offsets, capacitate + 1);
+    }
+    if (optiuni > tinte.length) {
+      tinte = Arrays.copyOf(tinte, Math.max(optiuni, tinte.length * 2));
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Forma de cautare a unui text: litere mici, fara diacritice (inclusiv s/t cu virgula sau
+ * cedila) si fara spatii la capete, deci un nume se gaseste si cautat fara diacritice.
+ */
+final class Pliere {
+
+  private static final Pattern SEMNE = Pattern.compile("\\p{M}+");
+
+  private Pliere() {
+  }
+
+  /**
+   * Textul pliat; null ramane null.
+   */
+  static String pliaza(String text) {
+    if (text == null) {
+      return null;
+    }
+    String descompus = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+    return SEMNE.matcher(descompus).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+}
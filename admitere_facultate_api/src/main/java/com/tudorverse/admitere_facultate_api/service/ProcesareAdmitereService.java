@@ -1,25 +1,32 @@
 package com.tudorverse.admitere_facultate_api.service;
 
+import com.tudorverse.admitere_facultate_api.dto.DosarClasat;
+import com.tudorverse.admitere_facultate_api.dto.OcupareProgramResponse;
 import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
 import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
 import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.RulareAdmitereResponse;
 import com.tudorverse.admitere_facultate_api.model.Candidat;
-import com.tudorverse.admitere_facultate_api.model.Dosar;
-import com.tudorverse.admitere_facultate_api.model.Optiune;
 import com.tudorverse.admitere_facultate_api.repository.CandidatRepository;
-import com.tudorverse.admitere_facultate_api.repository.DosarRepository;
-import com.tudorverse.admitere_facultate_api.repository.OptiuneRepository;
-import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
-import java.math.BigDecimal;
+import com.tudorverse.admitere_facultate_api.repository.ClasamentRepository;
+import com.tudorverse.admitere_facultate_api.repository.IncarcarePeLoturi;
+import com.tudorverse.admitere_facultate_api.repository.RulareAdmitereRepository;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Serviciu care proceseaza dosarele validate si aloca locurile disponibile.
@@ -27,149 +34,531 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ProcesareAdmitereService {
 
-  private final DosarRepository dosarRepository;
-  private final OptiuneRepository optiuneRepository;
-  private final ProgramStudiuRepository programStudiuRepository;
+  private static final Logger LOGGER = LoggerFactory.getLogger(ProcesareAdmitereService.class);
+
+  private final ClasamentRepository clasamentRepository;
+  private final CatalogReferinta catalogReferinta;
   private final CandidatRepository candidatRepository;
+  private final ModificariAdmitere modificariAdmitere;
+  private final RulareAdmitereRepository rulareAdmitereRepository;
+  private final MetriciProcesare metriciProcesare;
+
+  // Randuri incarcate intre doua actualizari de progres si verificari de anulare.
+  private static final int PAS_PROGRES = 4096;
+
+  // Ultima rulare publicata, pastrata in memorie; la pornire este restaurata din baza de date.
+  private final Object publicareLock = new Object();
+  private volatile RezultatePublicate publicate = new RezultatePublicate(null,
+      IndexDataRezultate.GOL, List.of(), null, null);
+  // Raportul fara rulare, refacut doar cand se schimba catalogul.
+  private volatile RaportGol raportGol;
+  // Rularile care nu au putut fi salvate primesc id-uri negative, unice in acest proces.
+  private final AtomicLong rulariNesalvate = new AtomicLong();
+
+  // Clasamentul si deciziile ultimei rulari, pastrate pentru procesarea incrementala.
+  private final Object stareLock = new Object();
+  private StareAlocare stare;
 
-  // Cache in memorie al ultimei rulari (se sterge la restart).
-  private volatile List<RezultatAdmitereResponse> ultimeleRezultate = List.of();
+  // Rularea in curs si cel mult o rulare urmatoare, pentru declansarile concurente.
+  private final Object coalescareLock = new Object();
+  private RulareProcesare rulareCurenta;
+  private RulareProcesare rulareUrmatoare;
 
-  public ProcesareAdmitereService(DosarRepository dosarRepository,
-      OptiuneRepository optiuneRepository,
-      ProgramStudiuRepository programStudiuRepository,
-      CandidatRepository candidatRepository) {
-    this.dosarRepository = dosarRepository;
-    this.optiuneRepository = optiuneRepository;
-    this.programStudiuRepository = programStudiuRepository;
+  private final TransactionTemplate tranzactieCitire;
+  private final TransactionTemplate tranzactieScriere;
+
+  public ProcesareAdmitereService(ClasamentRepository clasamentRepository,
+      CatalogReferinta catalogReferinta,
+      CandidatRepository candidatRepository,
+      ModificariAdmitere modificariAdmitere,
+      RulareAdmitereRepository rulareAdmitereRepository,
+      MetriciProcesare metriciProcesare,
+      PlatformTransactionManager transactionManager) {
+    this.clasamentRepository = clasamentRepository;
+    this.catalogReferinta = catalogReferinta;
     this.candidatRepository = candidatRepository;
+    this.modificariAdmitere = modificariAdmitere;
+    this.rulareAdmitereRepository = rulareAdmitereRepository;
+    this.metriciProcesare = metriciProcesare;
+    this.tranzactieCitire = new TransactionTemplate(transactionManager);
+    this.tranzactieCitire.setReadOnly(true);
+    this.tranzactieScriere = new TransactionTemplate(transactionManager);
   }
 
-  @Transactional(readOnly = true)
   public ProcesareAdmitereResponse proceseazaAdmitere() {
-    List<Dosar> dosare = dosarRepository.findByStatusAndMedieIsNotNull("VALIDAT");
-    dosare.sort(ProcesareAdmitereService::compareDosare);
-
-    if (dosare.isEmpty()) {
-      ultimeleRezultate = List.of();
-      return new ProcesareAdmitereResponse(0, 0, 0);
-    }
-
-    List<Long> dosarIds = dosare.stream().map(Dosar::getId).toList();
-    List<Optiune> optiuni = optiuneRepository
-        .findByDosarIdInOrderByDosarIdAscPrioritateAsc(dosarIds);
-
-    Map<Long, List<Optiune>> optiuniByDosar = new HashMap<>();
-    for (Optiune optiune : optiuni) {
-      optiuniByDosar.computeIfAbsent(optiune.getDosarId(), id -> new ArrayList<>())
-          .add(optiune);
-    }
-
-    Set<Long> candidatIds = dosare.stream()
-        .map(Dosar::getCandidatId)
-        .collect(Collectors.toSet());
-    Map<Long, Candidat> candidati = new HashMap<>();
-    for (Candidat candidat : candidatRepository.findAllById(candidatIds)) {
-      candidati.put(candidat.getId(), candidat);
-    }
-
-    Map<Long, ProgramStudiuResponse> programe = new HashMap<>();
-    Map<Long, Integer> locuriDisponibile = new HashMap<>();
-    for (ProgramStudiuResponse program : programStudiuRepository.findAllWithFacultate()) {
-      int total = program.locuriBuget() + program.locuriTaxa();
-      programe.put(program.id(), program);
-      locuriDisponibile.put(program.id(), total);
-    }
-
-    int dosareProcesate = 0;
-    int dosareAdmise = 0;
-    int dosareNealocate = 0;
-    List<RezultatAdmitereResponse> rezultate = new ArrayList<>();
-
-    for (Dosar dosar : dosare) {
-      dosareProcesate++;
-      List<Optiune> optiuniDosar = optiuniByDosar.get(dosar.getId());
-      Long programAfisatId = null;
-      Integer prioritate = null;
-      boolean admis = false;
-
-      if (optiuniDosar != null && !optiuniDosar.isEmpty()) {
-        Optiune primaOptiune = optiuniDosar.get(0);
-        for (Optiune optiune : optiuniDosar) {
-          Integer locuri = locuriDisponibile.get(optiune.getProgramId());
-          if (locuri == null || locuri <= 0) {
-            continue;
+    return proceseazaAdmitere(false, false);
+  }
+
+  /**
+   * Proceseaza admiterea complet sau incremental. In modul incremental se reiau doar
+   * pozitiile de la prima afectata de modificarile inregistrate in {@link ModificariAdmitere};
+   * cu {@code verificare} rezultatul este comparat cu o rulare completa.
+   */
+  public ProcesareAdmitereResponse proceseazaAdmitere(boolean incremental, boolean verificare) {
+    return proceseazaAdmitere(incremental, verificare, ProgresProcesare.FARA_RAPORTARE);
+  }
+
+  /**
+   * Ca {@link #proceseazaAdmitere(boolean, boolean)}, raportand fazele si progresul. O rulare
+   * anulata arunca {@link ProcesareAnulataException} si lasa rezultatele publicate neschimbate.
+   * Declansarile concurente sunt coalescate: daca datele nu s-au schimbat de la pornirea
+   * rularii in curs, apelantul primeste rezultatul ei; altfel se ataseaza la o singura
+   * rulare urmatoare, pornita dupa ce se termina cea curenta.
+   */
+  public ProcesareAdmitereResponse proceseazaAdmitere(boolean incremental, boolean verificare,
+      ProgresProcesare progres) {
+    RulareProcesare rulare;
+    RulareProcesare precedenta = null;
+    boolean lider = false;
+    synchronized (coalescareLock) {
+      if (rulareCurenta == null) {
+        rulareCurenta = new RulareProcesare();
+        rulareCurenta.pornita(modificariAdmitere.versiune());
+        rulare = rulareCurenta;
+        lider = true;
+      } else if (rulareCurenta.versiune() == modificariAdmitere.versiune()) {
+        rulare = rulareCurenta;
+      } else if (rulareUrmatoare == null) {
+        rulareUrmatoare = new RulareProcesare();
+        rulare = rulareUrmatoare;
+        precedenta = rulareCurenta;
+        lider = true;
+      } else {
+        rulare = rulareUrmatoare;
+      }
+      rulare.ataseaza(incremental, verificare, progres);
+    }
+
+    if (lider) {
+      if (precedenta != null) {
+        // Rularea urmatoare porneste doar dupa ce cea curenta s-a terminat, cu orice rezultat.
+        precedenta.rezultat().exceptionally(ex -> null).join();
+      }
+      ruleaza(rulare);
+    }
+    try {
+      return rulare.rezultat().join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cauza) {
+        throw cauza;
+      }
+      throw ex;
+    }
+  }
+
+  public List<RezultatAdmitereResponse> getUltimeleRezultate() {
+    return publicate.index().rezultate();
+  }
+
+  /**
+   * Ultimele rezultate cu data crearii dosarului in intervalul dat, gasite prin indexul dupa
+   * data; vezi {@link IndexDataRezultate#intre(LocalDate, LocalDate)}.
+   */
+  public List<RezultatAdmitereResponse> getUltimeleRezultate(LocalDate start, LocalDate end) {
+    return publicate.index().intre(start, end);
+  }
+
+  /**
+   * Ultima rulare publicata, daca exista.
+   */
+  public Optional<RulareAdmitereResponse> getUltimaRulare() {
+    return Optional.ofNullable(publicate.rulare());
+  }
+
+  /**
+   * Ocuparea si media ultimului admis pe program pentru ultima rulare publicata.
+   */
+  public List<OcupareProgramResponse> getOcuparePrograme() {
+    return publicate.ocupare();
+  }
+
+  /**
+   * Rapoartele agregate ale ultimei rulari publicate.
+   */
+  public RaportRulare getRaport() {
+    RaportRulare raport = publicate.raport();
+    return raport != null ? raport : raportGol();
+  }
+
+  // Inainte de prima rulare rapoartele listeaza programele din catalogul curent, cu 0 admisi.
+  private RaportRulare raportGol() {
+    CatalogReferinta.Catalog catalog = catalogReferinta.catalog();
+    RaportGol gol = raportGol;
+    if (gol == null || gol.catalog() != catalog) {
+      gol = new RaportGol(catalog, RaportRulare.gol(catalog.programe()));
+      raportGol = gol;
+    }
+    return gol.raport();
+  }
+
+  /**
+   * Clasamentul ultimei rulari calculate in acest proces, pentru simulari; lipseste dupa o
+   * restaurare la pornire, pana la prima rulare.
+   */
+  Optional<InstantaneuClasament> getInstantaneu() {
+    return Optional.ofNullable(publicate.instantaneu());
+  }
+
+  /**
+   * Listeaza rularile pastrate, cele mai recente primele.
+   */
+  public List<RulareAdmitereResponse> listeazaRulari() {
+    return tranzactieCitire.execute(status -> rulareAdmitereRepository.findAll());
+  }
+
+  public Optional<RulareAdmitereResponse> gasesteRulare(long rulareId) {
+    RezultatePublicate curente = publicate;
+    if (curente.rulare() != null && curente.rulare().id() == rulareId) {
+      return Optional.of(curente.rulare());
+    }
+    return tranzactieCitire.execute(status -> rulareAdmitereRepository.findById(rulareId));
+  }
+
+  /**
+   * Rezultatele unei rulari pastrate; pentru ultima rulare se folosesc cele din memorie.
+   */
+  public Optional<List<RezultatAdmitereResponse>> rezultateRulare(long rulareId) {
+    RezultatePublicate curente = publicate;
+    if (curente.rulare() != null && curente.rulare().id() == rulareId) {
+      return Optional.of(curente.index().rezultate());
+    }
+    return tranzactieCitire.execute(status -> rulareAdmitereRepository.findById(rulareId)
+        .map(rulare -> rulareAdmitereRepository.findRezultate(rulareId)));
+  }
+
+  /**
+   * Incarca in memorie ultima rulare pastrata. Este apelata la pornire, inainte ca aplicatia
+   * sa fie marcata pregatita; o rulare publicata intre timp nu este suprascrisa.
+   */
+  public void restaureazaUltimaRulare() {
+    tranzactieCitire.executeWithoutResult(status -> rulareAdmitereRepository.findUltima()
+        .ifPresent(rulare -> {
+          List<RezultatAdmitereResponse> rezultate =
+              rulareAdmitereRepository.findRezultate(rulare.id());
+          List<ProgramStudiuResponse> catalog = catalogReferinta.catalog().programe();
+          List<OcupareProgramResponse> ocupare = ocupareDinRezultate(rezultate, catalog);
+          // Respinsii sunt pastrati cu prima optiune existenta la momentul rularii.
+          RaportRulare raport = RaportRulare.construieste(rezultate, catalog,
+              pozitie -> rezultate.get(pozitie).programId());
+          modificariAdmitere.continuaDupa(rulare.versiuneDate());
+          synchronized (publicareLock) {
+            if (publicate.rulare() == null || publicate.rulare().id() < rulare.id()) {
+              publicate = new RezultatePublicate(rulare, new IndexDataRezultate(rezultate),
+                  ocupare, raport.pentruRulare(rulare.id()), null);
+              LOGGER.info("Restaurata rularea {} cu {} rezultate", rulare.id(),
+                  rezultate.size());
+            }
           }
-          locuriDisponibile.put(optiune.getProgramId(), locuri - 1);
-          programAfisatId = optiune.getProgramId();
-          prioritate = optiune.getPrioritate();
-          admis = true;
-          break;
-        }
-        if (!admis && primaOptiune != null) {
-          programAfisatId = primaOptiune.getProgramId();
-          prioritate = primaOptiune.getPrioritate();
+        }));
+  }
+
+  /**
+   * Executa rularea in tranzactia ei, ii inregistreaza profilul, promoveaza rularea urmatoare
+   * si apoi publica rezultatul catre toti cei atasati.
+   */
+  private void ruleaza(RulareProcesare rulare) {
+    boolean incremental;
+    boolean verificare;
+    synchronized (coalescareLock) {
+      incremental = rulare.incremental();
+      verificare = rulare.verificare();
+    }
+    ProfilRulare profil = new ProfilRulare();
+    ProcesareAdmitereResponse raspuns = null;
+    RuntimeException eroare = null;
+    try {
+      RulareCalculata calculata = tranzactieCitire.execute(
+          status -> proceseaza(incremental, verificare, rulare, profil));
+      raspuns = publica(calculata, rulare.versiune(), rulare, profil);
+      metriciProcesare.finalizata(profil, raspuns.incremental(), raspuns.dosareProcesate(),
+          raspuns.dosareAdmise());
+    } catch (RuntimeException ex) {
+      eroare = ex;
+      metriciProcesare.intrerupta(profil, incremental, ex instanceof ProcesareAnulataException);
+    }
+    synchronized (coalescareLock) {
+      rulareCurenta = rulareUrmatoare;
+      rulareUrmatoare = null;
+      if (rulareCurenta != null) {
+        rulareCurenta.pornita(modificariAdmitere.versiune());
+      }
+    }
+    if (eroare != null) {
+      rulare.rezultat().completeExceptionally(eroare);
+    } else {
+      rulare.rezultat().complete(raspuns);
+    }
+  }
+
+  /**
+   * Salveaza rularea cu rezultatele ei si abia apoi o publica in memorie. Daca salvarea
+   * esueaza (de exemplu, baza de date nu raspunde), rularea este publicata doar in memorie, cu
+   * un id negativ, si se pierde la restart.
+   */
+  private ProcesareAdmitereResponse publica(RulareCalculata calculata, long versiuneDate,
+      ProgresProcesare progres, ProfilRulare profil) {
+    List<RezultatAdmitereResponse> rezultate = calculata.index().rezultate();
+    progres.faza(FazaProcesare.PUBLICARE, rezultate.size());
+    RulareAdmitereResponse rulare;
+    try {
+      rulare = profil.masoara(ProfilRulare.SALVARE, () ->
+          tranzactieScriere.execute(status ->
+              rulareAdmitereRepository.salveaza(versiuneDate, calculata.incremental(),
+                  calculata.admise(), rezultate)));
+    } catch (DataAccessException ex) {
+      rulare = new RulareAdmitereResponse(rulariNesalvate.decrementAndGet(),
+          OffsetDateTime.now(), versiuneDate, calculata.incremental(), rezultate.size(),
+          calculata.admise(), rezultate.size() - calculata.admise());
+      LOGGER.warn("Rularea nu a putut fi salvata si este publicata doar in memorie ({}): {}",
+          rulare.id(), ex.getMessage());
+    }
+    synchronized (publicareLock) {
+      publicate = new RezultatePublicate(rulare, calculata.index(), calculata.ocupare(),
+          calculata.raport().pentruRulare(rulare.id()), calculata.instantaneu());
+    }
+    if (rulare.id() > 0) {
+      stergeRulariVechi();
+    }
+    progres.procesate(rezultate.size());
+    return new ProcesareAdmitereResponse(rezultate.size(), calculata.admise(),
+        rezultate.size() - calculata.admise(), calculata.incremental(),
+        calculata.pozitiiReluate(), rulare.id());
+  }
+
+  // Rularile vechi (cu sute de mii de rezultate fiecare) sunt sterse dupa publicarea celei noi,
+  // in tranzactia lor; o stergere esuata este reincercata dupa urmatoarea rulare.
+  private void stergeRulariVechi() {
+    try {
+      Integer sterse = tranzactieScriere.execute(status -> rulareAdmitereRepository.stergeVechi());
+      if (sterse != null && sterse > 0) {
+        LOGGER.info("Sterse {} rulari vechi", sterse);
+      }
+    } catch (DataAccessException ex) {
+      LOGGER.warn("Rularile vechi nu au putut fi sterse: {}", ex.getMessage());
+    }
+  }
+
+  private RulareCalculata proceseaza(boolean incremental, boolean verificare,
+      ProgresProcesare progres, ProfilRulare profil) {
+    synchronized (stareLock) {
+      // Jurnalul se preia inaintea citirilor, ca nicio modificare sa nu fie pierduta.
+      ModificariAdmitere.Lot modificari = modificariAdmitere.preia();
+      boolean ruleazaIncremental = incremental && stare != null && !modificari.preaMulte();
+
+      int pozitiiReluate;
+      try {
+        if (ruleazaIncremental) {
+          pozitiiReluate = aplicaModificari(stare, modificari, progres, profil);
+        } else {
+          stare = incarcaStare(progres, profil);
+          pozitiiReluate = profil.masoara(ProfilRulare.ALOCARE, () -> stare.realoca(0, progres));
         }
+      } catch (RuntimeException ex) {
+        // Starea poate fi partial actualizata, iar jurnalul a fost deja preluat;
+        // urmatoarea rulare va fi completa.
+        stare = null;
+        throw ex;
       }
 
-      if (!admis) {
-        dosareNealocate++;
-      } else {
-        dosareAdmise++;
+      List<RezultatAdmitereResponse> rezultate = profil.masoara(ProfilRulare.MATERIALIZARE,
+          stare::rezultate);
+      if (ruleazaIncremental && verificare) {
+        progres.faza(FazaProcesare.VERIFICARE, 0);
+        profil.masoara(ProfilRulare.VERIFICARE, () -> verificaIncremental(rezultate));
       }
 
-      ProgramStudiuResponse program = programAfisatId == null
-          ? null
-          : programe.get(programAfisatId);
-      Candidat candidat = candidati.get(dosar.getCandidatId());
-      String nume = candidat == null ? "" : candidat.getNume();
-      String prenume = candidat == null ? "" : candidat.getPrenume();
+      // Ultimul punct de anulare; dupa publicare rularea este completa.
+      try {
+        progres.verificaAnulare();
+      } catch (ProcesareAnulataException ex) {
+        stare = null;
+        throw ex;
+      }
+      StareAlocare calculata = stare;
+      return profil.masoara(ProfilRulare.MATERIALIZARE, () -> new RulareCalculata(
+          new IndexDataRezultate(rezultate), calculata.admisi(), ruleazaIncremental, pozitiiReluate,
+          List.copyOf(calculata.ocuparePrograme()), calculata.raport(rezultate),
+          calculata.instantaneu()));
+    }
+  }
 
-      rezultate.add(new RezultatAdmitereResponse(
-          dosar.getId(),
-          dosar.getCandidatId(),
-          nume,
-          prenume,
-          dosar.getMedie(),
-          dosar.getCreatedAt(),
-          prioritate,
-          admis ? "ADMIS" : "RESPINS",
-          program == null ? null : program.id(),
-          program == null ? null : program.nume(),
-          program == null ? null : program.facultateNume()));
+  /**
+   * Incarca toate dosarele validate si construieste clasamentul de la zero.
+   */
+  private StareAlocare incarcaStare(ProgresProcesare progres, ProfilRulare profil) {
+    List<IntrareClasament> clasament = new ArrayList<>();
+    progres.faza(FazaProcesare.INCARCARE, 0);
+    // Optiunile si numele candidatilor vin in aceeasi interogare cu dosarele.
+    profil.masoara(ProfilRulare.INCARCARE_DOSARE, () ->
+        clasamentRepository.parcurgeDosareValidate(dosar -> {
+          clasament.add(toIntrare(dosar));
+          if (clasament.size() % PAS_PROGRES == 0) {
+            progres.procesate(clasament.size());
+            progres.verificaAnulare();
+          }
+        }));
+    progres.procesate(clasament.size());
+    progres.faza(FazaProcesare.SORTARE, clasament.size());
+    // Baza de date livreaza deja ordinea clasamentului; sortarea este doar o plasa de siguranta.
+    List<IntrareClasament> ordonat = profil.masoara(ProfilRulare.SORTARE, () -> {
+      if (esteOrdonat(clasament)) {
+        return clasament;
+      }
+      LOGGER.warn("Dosarele nu au venit in ordinea clasamentului; se sorteaza in memorie");
+      return CheiClasament.sorteaza(clasament);
+    });
+    progres.procesate(ordonat.size());
+    List<ProgramStudiuResponse> programe = profil.masoara(ProfilRulare.INCARCARE_PROGRAME,
+        () -> catalogReferinta.catalog().programe());
+    return new StareAlocare(ordonat, programe);
+  }
+
+  /**
+   * Aplica modificarile pe starea existenta si reia alocarea de la prima pozitie afectata.
+   */
+  private int aplicaModificari(StareAlocare stareCurenta, ModificariAdmitere.Lot modificari,
+      ProgresProcesare progres, ProfilRulare profil) {
+    progres.faza(FazaProcesare.INCARCARE,
+        modificari.dosarIds().size() + modificari.candidatIds().size());
+    int start = stareCurenta.actualizeazaPrograme(profil.masoara(
+        ProfilRulare.INCARCARE_PROGRAME, () -> catalogReferinta.catalog().programe()));
+
+    if (!modificari.dosarIds().isEmpty()) {
+      for (Long dosarId : modificari.dosarIds()) {
+        start = Math.min(start, stareCurenta.elimina(dosarId));
+      }
+      List<DosarClasat> dosare = profil.masoara(ProfilRulare.INCARCARE_DOSARE,
+          () -> clasamentRepository.findValidateByIds(modificari.dosarIds()));
+      for (DosarClasat dosar : dosare) {
+        start = Math.min(start, stareCurenta.insereaza(toIntrare(dosar)));
+      }
     }
 
-    ultimeleRezultate = List.copyOf(rezultate);
-    return new ProcesareAdmitereResponse(dosareProcesate, dosareAdmise, dosareNealocate);
+    if (!modificari.candidatIds().isEmpty()) {
+      List<Candidat> candidati = profil.masoara(ProfilRulare.INCARCARE_CANDIDATI,
+          () -> IncarcarePeLoturi.incarca(modificari.candidatIds(),
+              candidatRepository::findAllById));
+      for (Candidat candidat : candidati) {
+        stareCurenta.actualizeazaCandidat(candidat.getId(), candidat.getNume(),
+            candidat.getPrenume());
+      }
+    }
+
+    progres.procesate(modificari.dosarIds().size() + modificari.candidatIds().size());
+    int inceput = start;
+    return profil.masoara(ProfilRulare.ALOCARE, () -> stareCurenta.realoca(inceput, progres));
   }
 
-  public List<RezultatAdmitereResponse> getUltimeleRezultate() {
-    return ultimeleRezultate;
+  /**
+   * Ruleaza o procesare completa si verifica ca rezultatul incremental este identic.
+   */
+  private void verificaIncremental(List<RezultatAdmitereResponse> incrementale) {
+    // Durata verificarii este masurata in intregime de apelant.
+    StareAlocare completa = incarcaStare(ProgresProcesare.FARA_RAPORTARE, new ProfilRulare());
+    completa.realoca(0);
+    List<RezultatAdmitereResponse> asteptate = completa.rezultate();
+    if (asteptate.equals(incrementale)) {
+      return;
+    }
+    int pozitie = 0;
+    while (pozitie < Math.min(asteptate.size(), incrementale.size())
+        && asteptate.get(pozitie).equals(incrementale.get(pozitie))) {
+      pozitie++;
+    }
+    LOGGER.error("Procesarea incrementala difera de cea completa la pozitia {}", pozitie);
+    // Se pastreaza starea completa, corecta, pentru rularile urmatoare; rezultatele publicate
+    // raman cele anterioare pana la urmatoarea rulare.
+    stare = completa;
+    throw new IllegalStateException(
+        "Procesarea incrementala difera de cea completa la pozitia " + pozitie);
   }
 
-  private static int compareDosare(Dosar left, Dosar right) {
-    int cmp = compareMedieDesc(left.getMedie(), right.getMedie());
-    if (cmp != 0) {
-      return cmp;
+  /**
+   * Rezultatul calculat al unei rulari, inainte de salvare si publicare.
+   */
+  private record RulareCalculata(IndexDataRezultate index, int admise,
+      boolean incremental, int pozitiiReluate, List<OcupareProgramResponse> ocupare,
+      RaportRulare raport, InstantaneuClasament instantaneu) {
+  }
+
+  /**
+   * Rularea publicata si rezultatele ei, indexate si dupa data; {@code rulare} si
+   * {@code raport} sunt null pana la prima publicare, iar {@code instantaneu} pentru rularile
+   * restaurate.
+   */
+  private record RezultatePublicate(RulareAdmitereResponse rulare, IndexDataRezultate index,
+      List<OcupareProgramResponse> ocupare,
+      RaportRulare raport, InstantaneuClasament instantaneu) {
+  }
+
+  /**
+   * Raportul fara rulare si catalogul din care a fost construit.
+   */
+  private record RaportGol(CatalogReferinta.Catalog catalog, RaportRulare raport) {
+  }
+
+  /**
+   * Reconstituie ocuparea pe program dintr-o rulare restaurata; locurile sunt cele curente
+   * din catalog, deoarece rularea nu le pastreaza.
+   */
+  private static List<OcupareProgramResponse> ocupareDinRezultate(
+      List<RezultatAdmitereResponse> rezultate, List<ProgramStudiuResponse> catalog) {
+    Map<Long, Integer> ocupate = new HashMap<>();
+    Map<Long, Integer> ultimaPozitie = new HashMap<>();
+    for (int i = 0; i < rezultate.size(); i++) {
+      RezultatAdmitereResponse rezultat = rezultate.get(i);
+      if ("ADMIS".equals(rezultat.status()) && rezultat.programId() != null) {
+        ocupate.merge(rezultat.programId(), 1, Integer::sum);
+        ultimaPozitie.put(rezultat.programId(), i);
+      }
     }
-    cmp = compareDateAsc(left.getCreatedAt(), right.getCreatedAt());
-    if (cmp != 0) {
-      return cmp;
+    List<ProgramStudiuResponse> ordonate = new ArrayList<>(catalog);
+    ordonate.sort(Comparator.comparing(ProgramStudiuResponse::id));
+    List<OcupareProgramResponse> ocupare = new ArrayList<>(ordonate.size());
+    for (ProgramStudiuResponse program : ordonate) {
+      int locuri = program.locuriBuget() + program.locuriTaxa();
+      int admisi = ocupate.getOrDefault(program.id(), 0);
+      Integer ultima = ultimaPozitie.get(program.id());
+      ocupare.add(new OcupareProgramResponse(program.id(), program.nume(),
+          program.facultateNume(), locuri, admisi, Math.max(0, locuri - admisi),
+          ultima == null ? null : rezultate.get(ultima).medie(),
+          ultima == null ? null : ultima + 1));
     }
-    return compareIdAsc(left.getId(), right.getId());
+    return List.copyOf(ocupare);
   }
 
-  private static int compareMedieDesc(BigDecimal left, BigDecimal right) {
-    if (left == null && right == null) {
-      return 0;
+  private static IntrareClasament toIntrare(DosarClasat dosar) {
+    return new IntrareClasament(
+        dosar.id(),
+        dosar.candidatId(),
+        dosar.candidatNume(),
+        dosar.candidatPrenume(),
+        dosar.medie(),
+        dosar.createdAt(),
+        dosar.programIds(),
+        dosar.prioritati());
+  }
+
+  private static boolean esteOrdonat(List<IntrareClasament> clasament) {
+    for (int i = 1; i < clasament.size(); i++) {
+      if (compareDosare(clasament.get(i - 1), clasament.get(i)) > 0) {
+        return false;
+      }
     }
-    if (left == null) {
-      return 1;
+    return true;
+  }
+
+  static int compareDosare(IntrareClasament left, IntrareClasament right) {
+    // Media scalata este FARA_MEDIE pentru null, deci dosarele fara medie ajung ultimele.
+    int cmp = Integer.compare(right.medieScalata(), left.medieScalata());
+    if (cmp != 0) {
+      return cmp;
     }
-    if (right == null) {
-      return -1;
+    cmp = compareDateAsc(left.createdAt(), right.createdAt());
+    if (cmp != 0) {
+      return cmp;
     }
-    return right.compareTo(left);
+    return compareIdAsc(left.dosarId(), right.dosarId());
   }
 
   private static int compareDateAsc(OffsetDateTime left, OffsetDateTime right) {
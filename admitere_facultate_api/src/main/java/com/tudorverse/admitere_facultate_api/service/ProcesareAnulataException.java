@@ -0,0 +1,11 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+/**
+ * Semnaleaza ca o rulare de procesare a fost anulata inainte de publicarea rezultatelor.
+ */
+public class ProcesareAnulataException extends RuntimeException {
+
+  public ProcesareAnulataException() {
+    super("Procesare anulata");
+  }
+}
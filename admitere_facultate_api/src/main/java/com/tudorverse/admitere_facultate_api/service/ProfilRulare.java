@@ -0,0 +1,58 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Duratele fazelor unei rulari de procesare, in ordinea in care au rulat. O faza masurata de
+ * mai multe ori in aceeasi rulare isi aduna duratele.
+ * Nu este thread-safe; o rulare este executata de un singur fir.
+ */
+final class ProfilRulare {
+
+  static final String INCARCARE_DOSARE = "incarcare_dosare";
+  static final String INCARCARE_CANDIDATI = "incarcare_candidati";
+  static final String INCARCARE_PROGRAME = "incarcare_programe";
+  static final String SORTARE = "sortare";
+  static final String ALOCARE = "alocare";
+  static final String MATERIALIZARE = "materializare";
+  static final String VERIFICARE = "verificare";
+  static final String SALVARE = "salvare";
+
+  private final OffsetDateTime pornit = OffsetDateTime.now();
+  private final long pornitNano = System.nanoTime();
+  private final Map<String, Long> faze = new LinkedHashMap<>();
+
+  <T> T masoara(String faza, Supplier<T> pas) {
+    long start = System.nanoTime();
+    try {
+      return pas.get();
+    } finally {
+      faze.merge(faza, System.nanoTime() - start, Long::sum);
+    }
+  }
+
+  void masoara(String faza, Runnable pas) {
+    masoara(faza, () -> {
+      pas.run();
+      return null;
+    });
+  }
+
+  OffsetDateTime pornit() {
+    return pornit;
+  }
+
+  long durataNano() {
+    return System.nanoTime() - pornitNano;
+  }
+
+  /**
+   * Duratele in nanosecunde, dupa numele fazei.
+   */
+  Map<String, Long> faze() {
+    return faze;
+  }
+}
@@ -0,0 +1,60 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+/**
+ * Primeste progresul unei rulari de procesare si poate cere anularea ei.
+ */
+public interface ProgresProcesare {
+
+  // Folosit de rularile sincrone, care nu raporteaza progres si nu pot fi anulate.
+  ProgresProcesare FARA_RAPORTARE = new ProgresProcesare() {
+    @Override
+    public void faza(FazaProcesare faza, int total) {
+    }
+
+    @Override
+    public void procesate(int procesate) {
+    }
+
+    @Override
+    public boolean anulareCeruta() {
+      return false;
+    }
+
+    @Override
+    public boolean poateAnula() {
+      return false;
+    }
+  };
+
+  /**
+   * Marcheaza inceputul unei faze; {@code total} este 0 cand nu se cunoaste dinainte.
+   */
+  void faza(FazaProcesare faza, int total);
+
+  /**
+   * Numarul de elemente procesate pana acum in faza curenta.
+   */
+  void procesate(int procesate);
+
+  /**
+   * Indica daca cel care a declansat rularea a cerut anularea ei.
+   */
+  boolean anulareCeruta();
+
+  /**
+   * Indica daca declansatorul poate cere anularea; cei care nu pot nu voteaza la anularea
+   * unei rulari partajate.
+   */
+  default boolean poateAnula() {
+    return true;
+  }
+
+  /**
+   * Arunca {@link ProcesareAnulataException} daca s-a cerut anularea rularii.
+   */
+  default void verificaAnulare() {
+    if (anulareCeruta()) {
+      throw new ProcesareAnulataException();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.util.Map;
+
+/**
+ * Un rand citit dintr-un fisier de import: numarul lui, campurile dupa nume si, daca randul nu
+ * a putut fi citit, motivul.
+ */
+public record RandImport(int numar, Map<String, String> campuri, String eroare) {
+}
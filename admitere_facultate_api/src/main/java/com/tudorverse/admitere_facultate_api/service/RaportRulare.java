@@ -0,0 +1,249 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportFacultateResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportInscrieriProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
+/**
+ * Rapoartele unei rulari, agregate o singura data la publicare: admisii pe program si
+ * admisii/respinsii pe facultate, respinsii fiind atribuiti facultatii primei optiuni.
+ *
+ * <p>Contoarele sunt pastrate pe zile (data locala a {@code created_at}), ca sume prefix, deci
+ * un raport pe un interval de date costa doua cautari binare pe zile si O(programe) in loc de
+ * o parcurgere a rezultatelor. Dosarele fara {@code created_at} sunt numarate doar in
+ * rapoartele fara interval. Catalogul este cel al rularii; rapoartele nu acceseaza baza de
+ * date. Instantele sunt imuabile.
+ */
+public final class RaportRulare {
+
+  // Id-ul rularii publicate, 0 inainte de salvare; versiunea rapoartelor randate.
+  private final long rulareId;
+  // Programele si facultatile in ordinea rapoartelor.
+  private final List<ProgramStudiuResponse> programe;
+  private final List<String> facultati;
+  private final LocalDate[] zile;
+  private final Contor[] admisiProgram;
+  private final Contor[] admisiFacultate;
+  private final Contor[] respinsiFacultate;
+  private final Contor rezultate;
+
+  private RaportRulare(long rulareId, List<ProgramStudiuResponse> programe,
+      List<String> facultati, LocalDate[] zile, Contor[] admisiProgram,
+      Contor[] admisiFacultate, Contor[] respinsiFacultate, Contor rezultate) {
+    this.rulareId = rulareId;
+    this.programe = programe;
+    this.facultati = facultati;
+    this.zile = zile;
+    this.admisiProgram = admisiProgram;
+    this.admisiFacultate = admisiFacultate;
+    this.respinsiFacultate = respinsiFacultate;
+    this.rezultate = rezultate;
+  }
+
+  /**
+   * Agrega rezultatele unei rulari. {@code primaOptiune} da, pentru pozitia unui dosar
+   * respins, id-ul primului program din catalog dintre optiunile lui, sau null.
+   */
+  static RaportRulare construieste(List<RezultatAdmitereResponse> rezultate,
+      Collection<ProgramStudiuResponse> catalog, IntFunction<Long> primaOptiune) {
+    List<ProgramStudiuResponse> programe = new ArrayList<>(catalog);
+    programe.sort(Comparator
+        .comparing(ProgramStudiuResponse::facultateNume, String.CASE_INSENSITIVE_ORDER)
+        .thenComparing(ProgramStudiuResponse::nume, String.CASE_INSENSITIVE_ORDER));
+    Map<Long, Integer> indexProgram = new HashMap<>();
+    TreeSet<String> numeFacultati = new TreeSet<>();
+    for (int k = 0; k < programe.size(); k++) {
+      indexProgram.put(programe.get(k).id(), k);
+      numeFacultati.add(programe.get(k).facultateNume());
+    }
+
+    // Facultatea fiecarui rezultat numarat: a programului la admisi, a primei optiuni la
+    // respinsi.
+    String[] facultatiRezultat = new String[rezultate.size()];
+    TreeSet<LocalDate> zileDistincte = new TreeSet<>();
+    for (int i = 0; i < rezultate.size(); i++) {
+      RezultatAdmitereResponse rezultat = rezultate.get(i);
+      if ("ADMIS".equals(rezultat.status())) {
+        facultatiRezultat[i] = rezultat.facultateNume();
+      } else if ("RESPINS".equals(rezultat.status())) {
+        Long programId = primaOptiune.apply(i);
+        Integer index = programId == null ? null : indexProgram.get(programId);
+        facultatiRezultat[i] = index == null ? null : programe.get(index).facultateNume();
+      }
+      if (facultatiRezultat[i] != null) {
+        numeFacultati.add(facultatiRezultat[i]);
+      }
+      if (rezultat.createdAt() != null) {
+        zileDistincte.add(rezultat.createdAt().toLocalDate());
+      }
+    }
+
+    List<String> facultati = List.copyOf(numeFacultati);
+    Map<String, Integer> indexFacultate = new HashMap<>();
+    for (int k = 0; k < facultati.size(); k++) {
+      indexFacultate.put(facultati.get(k), k);
+    }
+    LocalDate[] zile = zileDistincte.toArray(LocalDate[]::new);
+    Contor[] admisiProgram = contoare(programe.size(), zile.length);
+    Contor[] admisiFacultate = contoare(facultati.size(), zile.length);
+    Contor[] respinsiFacultate = contoare(facultati.size(), zile.length);
+    Contor total = new Contor(zile.length);
+
+    for (int i = 0; i < rezultate.size(); i++) {
+      RezultatAdmitereResponse rezultat = rezultate.get(i);
+      OffsetDateTime createdAt = rezultat.createdAt();
+      int zi = createdAt == null ? -1 : Arrays.binarySearch(zile, createdAt.toLocalDate());
+      total.adauga(zi);
+      boolean admis = "ADMIS".equals(rezultat.status());
+      if (admis && rezultat.programId() != null) {
+        Integer program = indexProgram.get(rezultat.programId());
+        if (program != null) {
+          admisiProgram[program].adauga(zi);
+        }
+      }
+      if (facultatiRezultat[i] != null) {
+        int facultate = indexFacultate.get(facultatiRezultat[i]);
+        (admis ? admisiFacultate : respinsiFacultate)[facultate].adauga(zi);
+      }
+    }
+
+    for (Contor contor : admisiProgram) {
+      contor.cumuleaza();
+    }
+    for (int k = 0; k < facultati.size(); k++) {
+      admisiFacultate[k].cumuleaza();
+      respinsiFacultate[k].cumuleaza();
+    }
+    total.cumuleaza();
+    return new RaportRulare(0, List.copyOf(programe), facultati, zile, admisiProgram,
+        admisiFacultate, respinsiFacultate, total);
+  }
+
+  /**
+   * Raportul de dinainte de prima rulare: fiecare program din catalog, cu 0 admisi.
+   */
+  static RaportRulare gol(Collection<ProgramStudiuResponse> catalog) {
+    return construieste(List.of(), catalog, pozitie -> null);
+  }
+
+  /**
+   * Acelasi raport, marcat cu id-ul rularii salvate; contoarele sunt partajate.
+   */
+  RaportRulare pentruRulare(long id) {
+    return new RaportRulare(id, programe, facultati, zile, admisiProgram, admisiFacultate,
+        respinsiFacultate, rezultate);
+  }
+
+  /**
+   * Id-ul rularii din care provine raportul (0 inainte de prima rulare). Rularile pastrate
+   * nu se modifica, deci un raport randat pentru acelasi id si interval ramane valid.
+   */
+  public long rulareId() {
+    return rulareId;
+  }
+
+  /**
+   * Admisii pe fiecare program din catalog cu {@code created_at} in intervalul dat (capetele
+   * null nu limiteaza), ordonati dupa facultate si program.
+   */
+  public List<RaportInscrieriProgramResponse> inscrieriProgram(LocalDate start, LocalDate end) {
+    Interval interval = interval(start, end);
+    List<RaportInscrieriProgramResponse> raport = new ArrayList<>(programe.size());
+    for (int k = 0; k < programe.size(); k++) {
+      ProgramStudiuResponse program = programe.get(k);
+      raport.add(new RaportInscrieriProgramResponse(program.id(), program.nume(),
+          program.facultateNume(), admisiProgram[k].numara(interval)));
+    }
+    return raport;
+  }
+
+  /**
+   * Admisii si respinsii pe facultate, ordonati dupa numele facultatii; lista este goala daca
+   * niciun rezultat nu cade in interval.
+   */
+  public List<RaportFacultateResponse> rezultateFacultati(LocalDate start, LocalDate end) {
+    Interval interval = interval(start, end);
+    if (rezultate.numara(interval) == 0) {
+      return List.of();
+    }
+    List<RaportFacultateResponse> raport = new ArrayList<>(facultati.size());
+    for (int k = 0; k < facultati.size(); k++) {
+      raport.add(new RaportFacultateResponse(facultati.get(k),
+          admisiFacultate[k].numara(interval), respinsiFacultate[k].numara(interval)));
+    }
+    return raport;
+  }
+
+  private Interval interval(LocalDate start, LocalDate end) {
+    int de = start == null ? 0 : primaZiDupa(start, false);
+    int pana = end == null ? zile.length : primaZiDupa(end, true);
+    return new Interval(de, Math.max(de, pana), start == null && end == null);
+  }
+
+  // Indexul primei zile >= data (sau > data, cu strict).
+  private int primaZiDupa(LocalDate data, boolean strict) {
+    int index = Arrays.binarySearch(zile, data);
+    if (index < 0) {
+      return -index - 1;
+    }
+    return strict ? index + 1 : index;
+  }
+
+  private static Contor[] contoare(int count, int zile) {
+    Contor[] contoare = new Contor[count];
+    for (int k = 0; k < count; k++) {
+      contoare[k] = new Contor(zile);
+    }
+    return contoare;
+  }
+
+  /**
+   * Zilele [de, pana); {@code toate} include si rezultatele fara data.
+   */
+  private record Interval(int de, int pana, boolean toate) {
+  }
+
+  /**
+   * Numarul de rezultate pe zile; dupa {@link #cumuleaza()}, {@code peZi[z]} este numarul din
+   * zilele anterioare zilei z.
+   */
+  private static final class Contor {
+
+    private final int[] peZi;
+    private int faraData;
+
+    Contor(int zile) {
+      this.peZi = new int[zile + 1];
+    }
+
+    void adauga(int zi) {
+      if (zi < 0) {
+        faraData++;
+      } else {
+        peZi[zi + 1]++;
+      }
+    }
+
+    void cumuleaza() {
+      for (int z = 1; z < peZi.length; z++) {
+        peZi[z] += peZi[z - 1];
+      }
+    }
+
+    int numara(Interval interval) {
+      return peZi[interval.pana()] - peZi[interval.de()] + (interval.toate() ? faraData : 0);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restaureaza ultima rulare salvata la pornire. Runner-ele se executa inainte ca starea de
+ * readiness sa treaca in ACCEPTING_TRAFFIC, deci rezultatele si rapoartele nu raman goale
+ * dupa un restart sau deploy.
+ */
+@Component
+public class RestaurareRezultate implements CommandLineRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RestaurareRezultate.class);
+
+  private final ProcesareAdmitereService procesareAdmitereService;
+
+  public RestaurareRezultate(ProcesareAdmitereService procesareAdmitereService) {
+    this.procesareAdmitereService = procesareAdmitereService;
+  }
+
+  @Override
+  public void run(String... args) {
+    try {
+      procesareAdmitereService.restaureazaUltimaRulare();
+    } catch (DataAccessException ex) {
+      // De exemplu, baza de date nu raspunde; aplicatia porneste fara rezultate.
+      LOGGER.warn("Nu s-a putut restaura ultima rulare: {}", ex.getMessage());
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * O rulare de procesare la care se pot atasa mai multi declansatori. Progresul este transmis
+ * tuturor, iar rularea se anuleaza doar daca fiecare declansator care poate anula a cerut
+ * anularea; apelurile sincrone atasate primesc atunci {@link ProcesareAnulataException}.
+ */
+final class RulareProcesare implements ProgresProcesare {
+
+  private final List<ProgresProcesare> participanti = new CopyOnWriteArrayList<>();
+  private final CompletableFuture<ProcesareAdmitereResponse> rezultat = new CompletableFuture<>();
+
+  // Modul rularii se stabileste din toti participantii atasati inainte de pornire.
+  private boolean incremental = true;
+  private boolean verificare;
+  private long versiune;
+
+  /**
+   * Ataseaza un declansator; trebuie apelat sub lock-ul de coalescare.
+   */
+  void ataseaza(boolean incrementalCerut, boolean verificareCeruta, ProgresProcesare progres) {
+    incremental &= incrementalCerut;
+    verificare |= verificareCeruta;
+    participanti.add(progres);
+  }
+
+  boolean incremental() {
+    return incremental;
+  }
+
+  boolean verificare() {
+    return verificare;
+  }
+
+  long versiune() {
+    return versiune;
+  }
+
+  void pornita(long versiuneDate) {
+    this.versiune = versiuneDate;
+  }
+
+  CompletableFuture<ProcesareAdmitereResponse> rezultat() {
+    return rezultat;
+  }
+
+  @Override
+  public void faza(FazaProcesare faza, int total) {
+    for (ProgresProcesare progres : participanti) {
+      progres.faza(faza, total);
+    }
+  }
+
+  @Override
+  public void procesate(int procesate) {
+    for (ProgresProcesare progres : participanti) {
+      progres.procesate(procesate);
+    }
+  }
+
+  @Override
+  public boolean anulareCeruta() {
+    boolean ceruta = false;
+    for (ProgresProcesare progres : participanti) {
+      if (progres.poateAnula()) {
+        if (!progres.anulareCeruta()) {
+          return false;
+        }
+        ceruta = true;
+      }
+    }
+    return ceruta;
+  }
+}
@@ -0,0 +1,38 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriRequest;
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriResponse;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Simuleaza alocarea cu alte numere de locuri ("ce se intampla daca programul X primeste
+ * 20 de locuri in plus") pe clasamentul ultimei rulari, fara baza de date. Scenariile unui
+ * lot sunt evaluate in paralel pe toate nucleele.
+ */
+@Service
+public class SimulareLocuriService {
+
+  // Limita de scenarii dintr-o cerere, ca un singur lot sa nu ocupe procesoarele prea mult.
+  public static final int LIMITA_SCENARII = 1000;
+
+  private final ProcesareAdmitereService procesareAdmitereService;
+
+  public SimulareLocuriService(ProcesareAdmitereService procesareAdmitereService) {
+    this.procesareAdmitereService = procesareAdmitereService;
+  }
+
+  /**
+   * Evalueaza scenariile si returneaza rezultatele in ordinea primita. Arunca
+   * {@link IllegalStateException} daca nu exista un clasament calculat si
+   * {@link IllegalArgumentException} pentru un program inexistent sau locuri negative.
+   */
+  public List<ScenariuLocuriResponse> simuleaza(List<ScenariuLocuriRequest> scenarii) {
+    InstantaneuClasament instantaneu = procesareAdmitereService.getInstantaneu()
+        .orElseThrow(() -> new IllegalStateException(
+            "Nu exista un clasament calculat; rulati procesarea"));
+    return scenarii.parallelStream()
+        .map(instantaneu::simuleaza)
+        .toList();
+  }
+}
@@ -0,0 +1,227 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import com.tudorverse.admitere_facultate_api.dto.OcupareProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starea pastrata intre rulari: clasamentul ordonat si {@link NucleuAlocare} cu locurile
+ * initiale si decizia de alocare pentru fiecare pozitie. Permite reluarea alocarii doar
+ * de la prima pozitie afectata.
+ * Nu este thread-safe; accesul este serializat de {@link ProcesareAdmitereService}.
+ */
+final class StareAlocare {
+
+  // Pozitii alocate intre doua verificari de progres si anulare.
+  private static final int BLOC_ALOCARE = 1 << 16;
+
+  private final List<IntrareClasament> clasament;
+  private final Map<Long, IntrareClasament> dupaDosar = new HashMap<>();
+  private final NucleuAlocare nucleu = new NucleuAlocare();
+  private Map<Long, ProgramStudiuResponse> programe = Map.of();
+
+  StareAlocare(List<IntrareClasament> clasamentOrdonat,
+      Collection<ProgramStudiuResponse> programe) {
+    this.clasament = new ArrayList<>(clasamentOrdonat);
+    for (IntrareClasament intrare : clasament) {
+      dupaDosar.put(intrare.dosarId(), intrare);
+      nucleu.adauga(intrare.programIds());
+    }
+    nucleu.seteazaLocuri(incarcaPrograme(programe));
+  }
+
+  int size() {
+    return clasament.size();
+  }
+
+  /**
+   * Inlocuieste catalogul de programe si returneaza prima pozitie a carei decizie depinde
+   * de un numar de locuri modificat (sau {@link #size()} daca nu exista).
+   */
+  int actualizeazaPrograme(Collection<ProgramStudiuResponse> programeNoi) {
+    int[] locuriNoi = incarcaPrograme(programeNoi);
+    int prima = nucleu.primaDivergenta(locuriNoi);
+    nucleu.seteazaLocuri(locuriNoi);
+    return prima;
+  }
+
+  /**
+   * Scoate dosarul din clasament si returneaza pozitia pe care o ocupa, sau {@link #size()}.
+   */
+  int elimina(Long dosarId) {
+    IntrareClasament existenta = dupaDosar.remove(dosarId);
+    if (existenta == null) {
+      return clasament.size();
+    }
+    int pozitie = Collections.binarySearch(clasament, existenta,
+        ProcesareAdmitereService::compareDosare);
+    clasament.remove(pozitie);
+    nucleu.elimina(pozitie);
+    return pozitie;
+  }
+
+  /**
+   * Insereaza dosarul pe pozitia data de ordinea clasamentului si returneaza pozitia.
+   */
+  int insereaza(IntrareClasament intrare) {
+    int pozitie = Collections.binarySearch(clasament, intrare,
+        ProcesareAdmitereService::compareDosare);
+    pozitie = pozitie < 0 ? -pozitie - 1 : pozitie;
+    clasament.add(pozitie, intrare);
+    dupaDosar.put(intrare.dosarId(), intrare);
+    nucleu.insereaza(pozitie, intrare.programIds());
+    return pozitie;
+  }
+
+  /**
+   * Actualizeaza numele candidatului pe pozitiile lui; ordinea nu depinde de nume.
+   */
+  void actualizeazaCandidat(Long candidatId, String nume, String prenume) {
+    for (int i = 0; i < clasament.size(); i++) {
+      IntrareClasament intrare = clasament.get(i);
+      if (candidatId.equals(intrare.candidatId())) {
+        IntrareClasament actualizata = intrare.cuCandidat(nume, prenume);
+        clasament.set(i, actualizata);
+        dupaDosar.put(actualizata.dosarId(), actualizata);
+      }
+    }
+  }
+
+  /**
+   * Reia alocarea de la pozitia data si returneaza numarul de pozitii reluate.
+   */
+  int realoca(int start) {
+    return nucleu.aloca(start);
+  }
+
+  /**
+   * Ca {@link #realoca(int)}, dar aloca pe blocuri si raporteaza progresul intre ele, unde
+   * rularea poate fi si anulata.
+   */
+  int realoca(int start, ProgresProcesare progres) {
+    int from = nucleu.pregateste(start);
+    int total = size() - from;
+    progres.faza(FazaProcesare.ALOCARE, total);
+    for (int bloc = from; bloc < size(); bloc += BLOC_ALOCARE) {
+      progres.verificaAnulare();
+      int stop = Math.min(size(), bloc + BLOC_ALOCARE);
+      nucleu.alocaInterval(bloc, stop);
+      progres.procesate(stop - from);
+    }
+    return total;
+  }
+
+  int admisi() {
+    return nucleu.admisi();
+  }
+
+  /**
+   * Ocuparea si media ultimului admis pe fiecare program din catalog, ordonate dupa id.
+   * Citeste doar contoarele nucleului, in O(programe).
+   */
+  List<OcupareProgramResponse> ocuparePrograme() {
+    List<ProgramStudiuResponse> ordonate = new ArrayList<>(programe.values());
+    ordonate.sort(Comparator.comparing(ProgramStudiuResponse::id));
+    List<OcupareProgramResponse> ocupare = new ArrayList<>(ordonate.size());
+    for (ProgramStudiuResponse program : ordonate) {
+      int ordinal = nucleu.ordinal(program.id());
+      int locuri = nucleu.locuriInitiale(ordinal);
+      int ramase = nucleu.locuriRamase(ordinal);
+      int ultima = nucleu.ultimaPozitie(ordinal);
+      ocupare.add(new OcupareProgramResponse(
+          program.id(),
+          program.nume(),
+          program.facultateNume(),
+          locuri,
+          locuri - ramase,
+          ramase,
+          ultima < 0 ? null : clasament.get(ultima).medie(),
+          ultima < 0 ? null : ultima + 1));
+    }
+    return ocupare;
+  }
+
+  /**
+   * Copie imuabila a clasamentului si a locurilor, pentru simulari.
+   */
+  InstantaneuClasament instantaneu() {
+    int[] medii = new int[clasament.size()];
+    for (int i = 0; i < medii.length; i++) {
+      medii[i] = clasament.get(i).medieScalata();
+    }
+    return nucleu.instantaneu(medii, programe);
+  }
+
+  /**
+   * Agrega rapoartele rularii din rezultatele date de {@link #rezultate()}.
+   */
+  RaportRulare raport(List<RezultatAdmitereResponse> rezultate) {
+    return RaportRulare.construieste(rezultate, programe.values(), this::primaOptiune);
+  }
+
+  /**
+   * Construieste lista de rezultate in ordinea clasamentului.
+   */
+  List<RezultatAdmitereResponse> rezultate() {
+    List<RezultatAdmitereResponse> rezultate = new ArrayList<>(clasament.size());
+    for (int i = 0; i < clasament.size(); i++) {
+      IntrareClasament intrare = clasament.get(i);
+      int alocare = nucleu.alocare(i);
+      boolean admis = alocare != NucleuAlocare.NEALOCAT;
+      // Respinsii sunt afisati cu prima optiune.
+      int afisat = admis ? alocare : (intrare.programIds().length == 0 ? -1 : 0);
+      Integer prioritate = afisat < 0 ? null : intrare.prioritati()[afisat];
+      ProgramStudiuResponse program = afisat < 0
+          ? null
+          : programe.get(intrare.programIds()[afisat]);
+
+      rezultate.add(new RezultatAdmitereResponse(
+          intrare.dosarId(),
+          intrare.candidatId(),
+          intrare.candidatNume(),
+          intrare.candidatPrenume(),
+          intrare.medie(),
+          intrare.createdAt(),
+          prioritate,
+          admis ? "ADMIS" : "RESPINS",
+          program == null ? null : program.id(),
+          program == null ? null : program.nume(),
+          program == null ? null : program.facultateNume()));
+    }
+    return rezultate;
+  }
+
+  // Primul program din catalog dintre optiunile dosarului de pe pozitie, sau null.
+  private Long primaOptiune(int pozitie) {
+    for (long programId : clasament.get(pozitie).programIds()) {
+      if (programe.containsKey(programId)) {
+        return programId;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Retine catalogul si returneaza locurile totale indexate dupa ordinalul programului.
+   */
+  private int[] incarcaPrograme(Collection<ProgramStudiuResponse> programeNoi) {
+    Map<Long, ProgramStudiuResponse> catalog = new HashMap<>();
+    for (ProgramStudiuResponse program : programeNoi) {
+      catalog.put(program.id(), program);
+      nucleu.ordinal(program.id());
+    }
+    int[] locuri = new int[nucleu.programe()];
+    for (ProgramStudiuResponse program : programeNoi) {
+      locuri[nucleu.ordinal(program.id())] = program.locuriBuget() + program.locuriTaxa();
+    }
+    this.programe = catalog;
+    return locuri;
+  }
+}
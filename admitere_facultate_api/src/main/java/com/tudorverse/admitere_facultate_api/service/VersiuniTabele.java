@@ -0,0 +1,66 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versiunea datelor fiecarei tabele administrate prin API, incrementata de operatiile de
+ * scriere ale controllerelor dupa ce modificarea a fost salvata. Listele GET isi construiesc
+ * din ea ETag-ul si Last-Modified, deci o lista neschimbata primeste 304 fara interogare si
+ * fara serializare.
+ *
+ * <p>Versiunile sunt tinute in memorie; ETag-ul contine si momentul pornirii, ca dupa un
+ * restart sa nu coincida cu unul emis anterior. Modificarile facute direct in baza de date,
+ * ocolind API-ul, nu sunt vazute.
+ */
+@Component
+public class VersiuniTabele {
+
+  /**
+   * Tabelele urmarite.
+   */
+  public enum Tabela {
+    FACULTATE, PROGRAM_STUDIU, CANDIDAT, DOSAR, OPTIUNE
+  }
+
+  private final String pornire = Long.toString(System.currentTimeMillis(), 36);
+  private final long[] versiuni = new long[Tabela.values().length];
+  private final Instant[] modificate = new Instant[Tabela.values().length];
+
+  public VersiuniTabele() {
+    // Momentul ultimei modificari dinainte de pornire nu este cunoscut.
+    Arrays.fill(modificate, Instant.now());
+  }
+
+  /**
+   * Inregistreaza o modificare salvata in tabela; se apeleaza dupa commit, ca o cerere care
+   * vede noua versiune sa citeasca si datele noi.
+   */
+  public synchronized void modificat(Tabela tabela) {
+    versiuni[tabela.ordinal()]++;
+    modificate[tabela.ordinal()] = Instant.now();
+  }
+
+  /**
+   * Versiunea unei liste construite din tabelele date (de exemplu dosarele, afisate cu
+   * numele candidatului, depind si de candidati).
+   */
+  public synchronized Versiune versiune(Tabela... tabele) {
+    StringBuilder etag = new StringBuilder("W/\"").append(pornire);
+    Instant modificat = Instant.EPOCH;
+    for (Tabela tabela : tabele) {
+      etag.append('-').append(versiuni[tabela.ordinal()]);
+      if (modificate[tabela.ordinal()].isAfter(modificat)) {
+        modificat = modificate[tabela.ordinal()];
+      }
+    }
+    return new Versiune(etag.append('"').toString(), modificat);
+  }
+
+  /**
+   * ETag-ul slab si momentul ultimei modificari ale unei liste.
+   */
+  public record Versiune(String etag, Instant modificat) {
+  }
+}
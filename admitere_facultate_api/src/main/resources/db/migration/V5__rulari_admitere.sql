@@ -0,0 +1,33 @@
+-- V5__rulari_admitere.sql
+
+-- Fiecare procesare a admiterii este pastrata ca o rulare cu rezultatele ei, in ordinea
+-- clasamentului. Rezultatele sunt copii (fara chei straine), ca rularile vechi sa ramana
+-- lizibile si dupa ce dosarele sau programele se schimba.
+-- Scriptul este idempotent si este rulat la fiecare pornire (spring.sql.init); se pastreaza
+-- doar ultimele admitere.rulari.pastrate rulari.
+create table if not exists rulare_admitere (
+  id bigserial primary key,
+  creat_la timestamptz not null default now(),
+  versiune_date bigint not null,
+  incremental boolean not null,
+  dosare_procesate int not null,
+  dosare_admise int not null,
+  dosare_nealocate int not null
+);
+
+create table if not exists rezultat_admitere (
+  rulare_id bigint not null references rulare_admitere(id) on delete cascade,
+  pozitie int not null,
+  dosar_id bigint not null,
+  candidat_id bigint,
+  candidat_nume text,
+  candidat_prenume text,
+  medie numeric(4,2),
+  created_at timestamptz,
+  prioritate int,
+  status text not null,
+  program_id bigint,
+  program_nume text,
+  facultate_nume text,
+  primary key (rulare_id, pozitie)
+);
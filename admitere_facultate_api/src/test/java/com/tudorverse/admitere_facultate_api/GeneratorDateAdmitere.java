@@ -0,0 +1,52 @@
+package com.tudorverse.admitere_facultate_api;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Genereaza direct in baza de date volume mari de candidati, dosare validate si optiuni
+ * pentru testele de volum si benchmark-uri. Apelantul ruleaza intr-o tranzactie cu rollback.
+ */
+public final class GeneratorDateAdmitere {
+
+  private GeneratorDateAdmitere() {
+  }
+
+  /**
+   * Creeaza o facultate cu {@code programe} programe si {@code dosare} dosare validate, fiecare
+   * cu trei optiuni distincte. Returneaza id-ul facultatii.
+   */
+  public static long genereaza(JdbcTemplate jdbcTemplate, String facultate, int programe,
+      int locuriPerProgram, int dosare) {
+    Long facultateId = jdbcTemplate.queryForObject(
+        "insert into facultate (nume) values (?) returning id", Long.class, facultate);
+    jdbcTemplate.update("""
+        insert into program_studiu (facultate_id, nume, locuri_buget, locuri_taxa)
+        select ?, 'Program ' || g, ?, 0
+        from generate_series(1, ?) g
+        """, facultateId, locuriPerProgram, programe);
+    String emailSufix = "@" + facultateId + ".generat.test";
+    jdbcTemplate.update("""
+        insert into candidat (nume, prenume, email)
+        select 'Nume' || g, 'Prenume' || g, 'candidat' || g || ?
+        from generate_series(1, ?) g
+        """, emailSufix, dosare);
+    jdbcTemplate.update("""
+        insert into dosar (candidat_id, status, medie, created_at)
+        select c.id, 'VALIDAT', round((5 + random() * 5)::numeric, 2),
+          now() - (c.id % 1000) * interval '1 minute'
+        from candidat c
+        where c.email like '%' || ?
+        """, emailSufix);
+    jdbcTemplate.update("""
+        insert into optiune (dosar_id, program_id, prioritate)
+        select d.id, p.id, k
+        from dosar d
+        join candidat c on c.id = d.candidat_id
+        cross join generate_series(1, 3) k
+        join program_studiu p on p.facultate_id = ?
+          and p.nume = 'Program ' || ((d.id + k * 7) % ? + 1)
+        where c.email like '%' || ?
+        """, facultateId, programe, emailSufix);
+    return facultateId;
+  }
+}
@@ -0,0 +1,59 @@
+package com.tudorverse.admitere_facultate_api.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Verifica faptul ca metricile si profilele rularilor cer o sesiune de admin, iar health
+ * ramane public, si pentru caile cu parametri ";..." sau segmente "..".
+ */
+class AdminAuthFilterTests {
+
+  private final AdminSessionService sessionService = new AdminSessionService();
+  private final AdminAuthFilter filter = new AdminAuthFilter(sessionService);
+
+  @Test
+  void actuatorulCereSesiuneInAfaraDeHealth() throws Exception {
+    assertEquals(401, cerere("/actuator/metrics", null).getStatus());
+    assertEquals(401, cerere("/actuator/admitere", null).getStatus());
+    assertEquals(401, cerere("/actuator", null).getStatus());
+    assertEquals(200, cerere("/actuator/health/readiness", null).getStatus());
+    assertEquals(200, cerere("/api/auth/me", null).getStatus());
+
+    String sesiune = sessionService.createSession(1L);
+    assertEquals(200, cerere("/actuator/metrics", sesiune).getStatus());
+  }
+
+  @Test
+  void caileNenormalizateNuOcolescFiltrul() throws Exception {
+    assertEquals(401, cerere("/actuator;x/metrics", null).getStatus());
+    assertEquals(401, cerere("/actuator/health/../admitere", null).getStatus());
+    assertEquals(401, cerere("/actuator/health/%2e%2e/metrics", null).getStatus());
+    assertEquals(401, cerere("/api;x/admin/candidati", null).getStatus());
+    assertEquals(401, cerere("/api/auth/../admin/candidati", null).getStatus());
+    assertEquals(200, cerere("/actuator;x/health", null).getStatus());
+  }
+
+  private MockHttpServletResponse cerere(String uri, String sesiune) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+    if (sesiune != null) {
+      request.setCookies(new Cookie(AdminAuthFilter.COOKIE_NAME, sesiune));
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, response, chain);
+    if (response.getStatus() == 200) {
+      assertNotNull(chain.getRequest());
+    } else {
+      assertNull(chain.getRequest());
+    }
+    return response;
+  }
+}
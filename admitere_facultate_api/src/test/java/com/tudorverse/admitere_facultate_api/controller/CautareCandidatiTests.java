@@ -0,0 +1,72 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.repository.CandidatRepository;
+import com.tudorverse.admitere_facultate_api.repository.IncarcarePeLoturi;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.service.HashParole;
+import com.tudorverse.admitere_facultate_api.service.IndexCandidati;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Verifica faptul ca rezultatele unei cautari largi sunt incarcate in loturi de id-uri si
+ * intoarse in ordinea relevantei.
+ */
+class CautareCandidatiTests {
+
+  @Test
+  void cautareaLargaIncarcaCandidatiiPeLoturi() throws Exception {
+    // Ordinea relevantei: id-uri descrescatoare; candidatul 1500 a fost sters intre timp.
+    long[] gasiti = LongStream.iterate(3000, id -> id - 1).limit(3000).toArray();
+    IndexCandidati index = mock(IndexCandidati.class);
+    when(index.cauta(eq("pop"), isNull(), isNull(), anyLong(), anyInt())).thenReturn(gasiti);
+    CandidatRepository repository = mock(CandidatRepository.class);
+    List<Integer> loturi = new ArrayList<>();
+    when(repository.findAllById(anyList())).thenAnswer(invocation -> {
+      List<Long> lot = invocation.getArgument(0);
+      loturi.add(lot.size());
+      return lot.stream().distinct().filter(id -> id != 1500L).map(id -> {
+        Candidat candidat = new Candidat();
+        candidat.setId(id);
+        return candidat;
+      }).toList();
+    });
+    MockMvc mvc = MockMvcBuilders.standaloneSetup(new CandidatController(repository,
+        mock(PaginiRepository.class), mock(HashParole.class), new ModificariAdmitere(),
+        new VersiuniTabele(), index)).build();
+
+    String corp = mvc.perform(get("/api/admin/candidati").param("nume", "pop")
+            .param("toate", "true"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+
+    assertTrue(loturi.size() > 1);
+    assertTrue(loturi.stream().allMatch(lot -> lot <= IncarcarePeLoturi.DIMENSIUNE_LOT));
+    List<Long> ids = new ArrayList<>();
+    for (JsonNode candidat : JsonMapper.builder().build().readTree(corp)) {
+      ids.add(candidat.get("id").asLong());
+    }
+    assertEquals(LongStream.of(gasiti).filter(id -> id != 1500L).boxed().toList(), ids);
+  }
+}
@@ -0,0 +1,90 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.IndexNume;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Verifica 304 pentru o lista neschimbata, fara interogare, si un ETag nou dupa o scriere.
+ */
+class CereriConditionateTests {
+
+  private FacultateRepository repository;
+  private PaginiRepository pagini;
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(FacultateRepository.class);
+    pagini = mock(PaginiRepository.class);
+    when(pagini.facultati(0, Paginare.LIMITA_IMPLICITA + 1))
+        .thenReturn(List.of(facultate(1L, "Litere")));
+    when(repository.save(any(Facultate.class))).thenReturn(facultate(2L, "Drept"));
+    mvc = MockMvcBuilders.standaloneSetup(new FacultateController(repository, pagini,
+        new ModificariAdmitere(), new VersiuniTabele(), mock(IndexNume.class),
+        new CatalogReferinta(mock(ProgramStudiuRepository.class), repository,
+            new SimpleMeterRegistry(), mock(PlatformTransactionManager.class)))).build();
+  }
+
+  @Test
+  void listaNeschimbataPrimeste304FaraInterogare() throws Exception {
+    String etag = mvc.perform(get("/api/admin/facultati"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mvc.perform(get("/api/admin/facultati").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+    verify(pagini, times(1)).facultati(0, Paginare.LIMITA_IMPLICITA + 1);
+  }
+
+  @Test
+  void scriereaSchimbaEtagul() throws Exception {
+    String etag = mvc.perform(get("/api/admin/facultati"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mvc.perform(post("/api/admin/facultati")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"nume\":\"Drept\"}"))
+        .andExpect(status().isCreated());
+
+    mvc.perform(get("/api/admin/facultati").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+    verify(pagini, times(2)).facultati(0, Paginare.LIMITA_IMPLICITA + 1);
+  }
+
+  private static Facultate facultate(Long id, String nume) {
+    Facultate facultate = new Facultate();
+    facultate.setId(id);
+    facultate.setNume(nume);
+    return facultate;
+  }
+}
@@ -0,0 +1,88 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.service.ProcesareAdmitereService;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Verifica alegerea reprezentarii in flux dupa header-ul Accept si faptul ca produce
+ * aceleasi obiecte ca lista obisnuita.
+ */
+class FluxJsonTests {
+
+  private final ObjectMapper mapper = JsonMapper.builder().build();
+  private final List<RezultatAdmitereResponse> rezultate = List.of(
+      rezultat(1L, "ADMIS"), rezultat(2L, "RESPINS"), rezultat(3L, "ADMIS"));
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    ProcesareAdmitereService service = mock(ProcesareAdmitereService.class);
+    when(service.getUltimeleRezultate(null, null)).thenReturn(rezultate);
+    mvc = MockMvcBuilders.standaloneSetup(new RezultateAdmitereController(service, mapper))
+        .build();
+  }
+
+  @Test
+  void faraAcceptSpecificRaspunsulRamaneListaObisnuita() throws Exception {
+    for (String accept : List.of(MediaType.APPLICATION_JSON_VALUE, MediaType.ALL_VALUE)) {
+      mvc.perform(get("/api/admin/rezultate").header("Accept", accept))
+          .andExpect(request().asyncNotStarted())
+          .andExpect(status().isOk())
+          .andExpect(content().json(mapper.writeValueAsString(rezultate)));
+    }
+  }
+
+  @Test
+  void ndjsonScrieUnObiectPeLinie() throws Exception {
+    String body = flux(FluxJson.NDJSON);
+    StringBuilder asteptat = new StringBuilder();
+    for (RezultatAdmitereResponse rezultat : rezultate) {
+      asteptat.append(mapper.writeValueAsString(rezultat)).append('\n');
+    }
+    assertEquals(asteptat.toString(), body);
+  }
+
+  @Test
+  void tablouInFluxEsteIdenticCuListaSerializata() throws Exception {
+    assertEquals(mapper.writeValueAsString(rezultate), flux(FluxJson.TABLOU));
+  }
+
+  private String flux(String accept) throws Exception {
+    MvcResult pornit = mvc.perform(get("/api/admin/rezultate").header("Accept", accept))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    return mvc.perform(asyncDispatch(pornit))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(accept))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+  }
+
+  private static RezultatAdmitereResponse rezultat(Long id, String status) {
+    return new RezultatAdmitereResponse(id, id, "Nume \"" + id + "\"", "Prenume",
+        new BigDecimal("9.25"), OffsetDateTime.of(2025, 7, 1, 8, 0, 0, 0, ZoneOffset.UTC), 1,
+        status, "ADMIS".equals(status) ? 5L : null, null, null);
+  }
+}
@@ -0,0 +1,156 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ImportRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.HashParole;
+import com.tudorverse.admitere_facultate_api.service.ImportService;
+import com.tudorverse.admitere_facultate_api.service.IndexCandidati;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Verifica citirea CSV si NDJSON, erorile pe rand, loturile si reluarea rand cu rand a unui
+ * lot respins de baza de date.
+ */
+class ImportTests {
+
+  private ImportRepository repository;
+  private IndexCandidati indexCandidati;
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(ImportRepository.class);
+    indexCandidati = mock(IndexCandidati.class);
+    AtomicLong secventa = new AtomicLong(100);
+    when(repository.alocaIds(anyString(), anyInt())).thenAnswer(invocation -> LongStream
+        .range(0, invocation.<Integer>getArgument(1))
+        .map(i -> secventa.incrementAndGet())
+        .toArray());
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    when(encoder.encode(anyString()))
+        .thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+    ProgramStudiuRepository programe = mock(ProgramStudiuRepository.class);
+    when(programe.findAllWithFacultate())
+        .thenReturn(List.of(new ProgramStudiuResponse(10L, 1L, "Litere", "Romana", 40, 10)));
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    ImportService service = new ImportService(repository,
+        new HashParole(encoder, new SimpleMeterRegistry(), 2, 4),
+        new CatalogReferinta(programe, mock(FacultateRepository.class),
+            new SimpleMeterRegistry(), transactionManager),
+        new VersiuniTabele(), new ModificariAdmitere(), indexCandidati, transactionManager, 2);
+    mvc = MockMvcBuilders.standaloneSetup(
+        new ImportController(service, JsonMapper.builder().build())).build();
+  }
+
+  @Test
+  void csvCuEroriPeRand() throws Exception {
+    when(repository.emailuriExistente(anyList())).thenReturn(Set.of("vechi@x.ro"));
+    String csv = "\uFEFF" + """
+        nume,prenume,email,parola
+        Pop,Ana,ana@x.ro,secret
+
+        "Ionescu, jr.",Dan,,
+        Pop,Ioana,ana@x.ro,
+        Vlad,Maria,vechi@x.ro,
+        Stan,"Radu \"\"R\"\"",radu@x.ro,
+        Gol,"neinchis
+        """;
+
+    mvc.perform(post("/api/admin/import/candidati")
+            .contentType("text/csv")
+            .content(csv.getBytes(StandardCharsets.UTF_8)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.randuri").value(6))
+        .andExpect(jsonPath("$.importate").value(2))
+        .andExpect(jsonPath("$.ids[0]").value(101))
+        .andExpect(jsonPath("$.ids[1]").value(nullValue()))
+        .andExpect(jsonPath("$.ids[4]").value(102))
+        .andExpect(jsonPath("$.erori[*].rand").value(contains(2, 3, 4, 6)))
+        .andExpect(jsonPath("$.erori[0].mesaj").value("Camp lipsa: email"))
+        .andExpect(jsonPath("$.erori[1].mesaj").value("Email duplicat in fisier"))
+        .andExpect(jsonPath("$.erori[2].mesaj").value("Email existent"))
+        .andExpect(jsonPath("$.erori[3].mesaj").value("Ghilimele neinchise"));
+
+    verify(repository).insereazaCandidati(argThat(candidati ->
+        candidati.size() == 1 && "hash:secret".equals(candidati.get(0).getParolaHash())));
+    verify(indexCandidati, times(2)).actualizat(any());
+  }
+
+  @Test
+  void lotulRespinsEsteReluatRandCuRand() throws Exception {
+    when(repository.idsExistente("dosar", List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+    when(repository.idsExistente("dosar", List.of(3L))).thenReturn(Set.of(3L));
+    doAnswer(invocation -> {
+      List<Optiune> optiuni = invocation.getArgument(0);
+      if (optiuni.size() > 1 || optiuni.get(0).getDosarId() == 2L) {
+        throw new DataIntegrityViolationException("duplicate key");
+      }
+      return null;
+    }).when(repository).insereazaOptiuni(anyList());
+    String ndjson = """
+        {"dosarId":1,"programId":10,"prioritate":1}
+        {"dosarId":2,"programId":"10","prioritate":1,"extra":null}
+        {"dosarId":3,"programId":11,"prioritate":1}
+        {"dosarId":3,
+        {"dosarId":3,"programId":10,"prioritate":1}
+        """;
+
+    mvc.perform(post("/api/admin/import/optiuni")
+            .contentType(FluxJson.NDJSON)
+            .content(ndjson))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.randuri").value(5))
+        .andExpect(jsonPath("$.importate").value(2))
+        .andExpect(jsonPath("$.ids[0]").value(101))
+        .andExpect(jsonPath("$.ids[1]").value(nullValue()))
+        .andExpect(jsonPath("$.ids[4]").value(103))
+        .andExpect(jsonPath("$.erori[*].rand").value(contains(2, 3, 4)))
+        .andExpect(jsonPath("$.erori[0].mesaj").value(startsWith("Respins de baza de date")))
+        .andExpect(jsonPath("$.erori[1].mesaj").value("Program inexistent"))
+        .andExpect(jsonPath("$.erori[2].mesaj").value(startsWith("JSON invalid")));
+  }
+
+  @Test
+  void tabelaNecunoscutaPrimeste404() throws Exception {
+    mvc.perform(post("/api/admin/import/facultati")
+            .contentType("text/csv")
+            .content("nume\nLitere\n"))
+        .andExpect(status().isNotFound());
+  }
+}
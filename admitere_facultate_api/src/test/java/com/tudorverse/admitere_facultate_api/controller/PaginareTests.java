@@ -0,0 +1,96 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.PaginiRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.service.CatalogReferinta;
+import com.tudorverse.admitere_facultate_api.service.IndexNume;
+import com.tudorverse.admitere_facultate_api.service.ModificariAdmitere;
+import com.tudorverse.admitere_facultate_api.service.VersiuniTabele;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Verifica pagina keyset: randul in plus produce header-ul Link, ultima pagina nu il are,
+ * limita este marginita, iar {@code toate=true} pastreaza lista completa.
+ */
+class PaginareTests {
+
+  private FacultateRepository repository;
+  private PaginiRepository pagini;
+  private MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(FacultateRepository.class);
+    pagini = mock(PaginiRepository.class);
+    mvc = MockMvcBuilders.standaloneSetup(new FacultateController(repository, pagini,
+        new ModificariAdmitere(), new VersiuniTabele(), mock(IndexNume.class),
+        new CatalogReferinta(mock(ProgramStudiuRepository.class), repository,
+            new SimpleMeterRegistry(), mock(PlatformTransactionManager.class)))).build();
+  }
+
+  @Test
+  void paginaPlinaIndicaPaginaUrmatoare() throws Exception {
+    when(pagini.facultati(10, 3)).thenReturn(List.of(
+        facultate(11L), facultate(14L), facultate(15L)));
+    when(pagini.estimare("facultate")).thenReturn(42L);
+
+    mvc.perform(get("/api/admin/facultati?after=10&limit=2&total=true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[1].id").value(14))
+        .andExpect(header().string(HttpHeaders.LINK,
+            "<http://localhost/api/admin/facultati?total=true&after=14&limit=2>; rel=\"next\""))
+        .andExpect(header().string(Paginare.TOTAL, "42"));
+  }
+
+  @Test
+  void ultimaPaginaNuAreLinkSiLimitaEsteMarginita() throws Exception {
+    when(pagini.facultati(0, Paginare.LIMITA_MAXIMA + 1)).thenReturn(List.of(facultate(1L)));
+
+    mvc.perform(get("/api/admin/facultati?limit=50000"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(header().doesNotExist(HttpHeaders.LINK))
+        .andExpect(header().doesNotExist(Paginare.TOTAL));
+    mvc.perform(get("/api/admin/facultati?limit=0"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void toateIntoarceCatalogulNepaginat() throws Exception {
+    when(repository.findAll(Sort.by("id"))).thenReturn(List.of(facultate(1L), facultate(2L)));
+
+    mvc.perform(get("/api/admin/facultati?toate=true"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    verify(repository).findAll(Sort.by("id"));
+    verifyNoInteractions(pagini);
+  }
+
+  private static Facultate facultate(Long id) {
+    Facultate facultate = new Facultate();
+    facultate.setId(id);
+    facultate.setNume("Facultatea " + id);
+    return facultate;
+  }
+}
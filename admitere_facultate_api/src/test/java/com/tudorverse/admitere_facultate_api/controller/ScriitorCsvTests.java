@@ -0,0 +1,47 @@
+package com.tudorverse.admitere_facultate_api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica formatul CSV scris in flux, simplu si comprimat.
+ */
+class ScriitorCsvTests {
+
+  @Test
+  void scrieRanduriCuGhilimeleSiValoriGoale() throws IOException {
+    assertEquals("id,nume,medie\n1,\"Ion \"\"Nelu\"\"\",9.50\n2,,\n", scrie(false));
+  }
+
+  @Test
+  void gzipContineAcelasiText() throws IOException {
+    ByteArrayOutputStream comprimat = new ByteArrayOutputStream();
+    ScriitorCsv csv = new ScriitorCsv(comprimat, true);
+    continut(csv);
+    csv.termina();
+    try (GZIPInputStream input = new GZIPInputStream(
+        new ByteArrayInputStream(comprimat.toByteArray()))) {
+      assertEquals(scrie(false), new String(input.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static String scrie(boolean gzip) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ScriitorCsv csv = new ScriitorCsv(output, gzip);
+    continut(csv);
+    csv.termina();
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static void continut(ScriitorCsv csv) throws IOException {
+    csv.antet("id", "nume", "medie");
+    csv.valoare(1).text("Ion \"Nelu\"").valoare("9.50").rand();
+    csv.valoare(2L).text(null).valoare(null).rand();
+  }
+}
@@ -0,0 +1,115 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import com.tudorverse.admitere_facultate_api.GeneratorDateAdmitere;
+import com.tudorverse.admitere_facultate_api.dto.DosarClasat;
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.model.Dosar;
+import com.tudorverse.admitere_facultate_api.model.Optiune;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compara incarcarea clasamentului cu {@link ClasamentRepository} (o singura interogare, fara
+ * entitati) cu incarcarea veche prin trei repository-uri JPA. Ruleaza doar la cerere, pe o
+ * baza PostgreSQL reala: {@code ./mvnw test -Dtest=ClasamentRepositoryBenchmark
+ * -Dadmitere.benchmark=true [-Dadmitere.benchmark.dimensiuni=10000,100000,1000000]}.
+ * Datele generate sunt sterse prin rollback la final.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "admitere.benchmark", matches = "true")
+class ClasamentRepositoryBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClasamentRepositoryBenchmark.class);
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private EntityManager entityManager;
+  @Autowired
+  private ClasamentRepository clasamentRepository;
+  @Autowired
+  private DosarRepository dosarRepository;
+  @Autowired
+  private OptiuneRepository optiuneRepository;
+  @Autowired
+  private CandidatRepository candidatRepository;
+
+  @Test
+  void incarcareClasament() {
+    int[] dimensiuni = Arrays.stream(System.getProperty("admitere.benchmark.dimensiuni",
+            "10000,100000,1000000").split(","))
+        .mapToInt(value -> Integer.parseInt(value.trim()))
+        .toArray();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    for (int dimensiune : dimensiuni) {
+      transaction.executeWithoutResult(status -> {
+        GeneratorDateAdmitere.genereaza(jdbcTemplate, "Benchmark", 20, 50, dimensiune);
+        masoara(dimensiune, "entitati JPA", this::incarcaCuEntitati);
+        masoara(dimensiune, "proiectie JDBC", this::incarcaCuProiectie);
+        status.setRollbackOnly();
+      });
+    }
+  }
+
+  private void masoara(int dimensiune, String varianta, Runnable incarcare) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    entityManager.clear();
+    long bytesInainte = threads.getCurrentThreadAllocatedBytes();
+    long start = System.nanoTime();
+    try {
+      incarcare.run();
+      long durataMs = (System.nanoTime() - start) / 1_000_000;
+      long megabytes = (threads.getCurrentThreadAllocatedBytes() - bytesInainte) / (1024 * 1024);
+      LOGGER.info("{} dosare, {}: {} ms, {} MB alocati", dimensiune, varianta, durataMs,
+          megabytes);
+    } catch (RuntimeException ex) {
+      LOGGER.info("{} dosare, {}: esuat ({})", dimensiune, varianta, ex.getMessage());
+    } finally {
+      entityManager.clear();
+    }
+  }
+
+  // Drumul vechi: dosare, optiuni si candidati incarcati ca entitati gestionate.
+  private void incarcaCuEntitati() {
+    List<Dosar> dosare = dosarRepository.findByStatusAndMedieIsNotNull("VALIDAT");
+    List<Long> dosarIds = dosare.stream().map(Dosar::getId).toList();
+    Map<Long, List<Optiune>> optiuniByDosar = new HashMap<>();
+    for (Optiune optiune : optiuneRepository.findByDosarIdInOrderByDosarIdAscPrioritateAsc(
+        dosarIds)) {
+      optiuniByDosar.computeIfAbsent(optiune.getDosarId(), id -> new ArrayList<>())
+          .add(optiune);
+    }
+    Set<Long> candidatIds = dosare.stream()
+        .map(Dosar::getCandidatId)
+        .collect(Collectors.toSet());
+    Map<Long, Candidat> candidati = new HashMap<>();
+    for (Candidat candidat : candidatRepository.findAllById(candidatIds)) {
+      candidati.put(candidat.getId(), candidat);
+    }
+  }
+
+  private void incarcaCuProiectie() {
+    List<DosarClasat> dosare = new ArrayList<>();
+    clasamentRepository.parcurgeDosareValidate(dosare::add);
+  }
+}
@@ -0,0 +1,48 @@
+package com.tudorverse.admitere_facultate_api.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica impartirea cautarilor dupa id in loturi de dimensiune fixa.
+ */
+class IncarcarePeLoturiTests {
+
+  @Test
+  void loturileRamanSubLimitaDeParametriSiAcoperaToateIdurile() {
+    List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, 100_000).boxed().toList());
+    Collections.shuffle(ids, new Random(1));
+    Set<Integer> formeInstructiune = new HashSet<>();
+
+    List<Long> incarcate = IncarcarePeLoturi.incarca(ids, lot -> {
+      assertTrue(lot.size() <= IncarcarePeLoturi.DIMENSIUNE_LOT);
+      formeInstructiune.add(lot.size());
+      return new HashSet<>(lot);
+    });
+
+    assertEquals(LongStream.rangeClosed(1, 100_000).boxed().toList(),
+        incarcate.stream().sorted().toList());
+    // Loturile pline plus ultimul, completat pana la o putere a lui 2.
+    assertTrue(formeInstructiune.size() <= 2);
+  }
+
+  @Test
+  void lotulMicEsteCompletatPanaLaOPutereALui2() {
+    List<List<Long>> loturi = new ArrayList<>();
+    IncarcarePeLoturi.incarca(List.of(5L, 3L, 9L), lot -> {
+      loturi.add(lot);
+      return List.of();
+    });
+
+    assertEquals(List.of(List.of(3L, 5L, 9L, 9L)), loturi);
+  }
+}
@@ -0,0 +1,107 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica reutilizarea randarilor, evacuarea dupa dimensiune si refuzul cand coada de
+ * randare este plina.
+ */
+class CacheRapoarteTests {
+
+  private CacheRapoarte cache;
+
+  @AfterEach
+  void tearDown() {
+    if (cache != null) {
+      cache.opreste();
+    }
+  }
+
+  @Test
+  void aceeasiCheieEsteRandataOSinguraData() {
+    cache = new CacheRapoarte(1024, 1, 4);
+    AtomicInteger randari = new AtomicInteger();
+    CacheRapoarte.Cheie cheie = cheie(1, "pdf");
+
+    byte[] prima = cache.obtine(cheie, () -> randeaza(randari, 10)).join();
+    byte[] adoua = cache.obtine(cheie, () -> randeaza(randari, 10)).join();
+
+    assertSame(prima, adoua);
+    assertEquals(1, randari.get());
+  }
+
+  @Test
+  void depasireaDimensiuniiEvacueazaCeaMaiVecheIntrare() {
+    cache = new CacheRapoarte(25, 1, 4);
+    AtomicInteger randari = new AtomicInteger();
+
+    cache.obtine(cheie(1, "csv"), () -> randeaza(randari, 10)).join();
+    cache.obtine(cheie(2, "csv"), () -> randeaza(randari, 10)).join();
+    cache.obtine(cheie(1, "csv"), () -> randeaza(randari, 10)).join();
+    cache.obtine(cheie(3, "csv"), () -> randeaza(randari, 10)).join();
+    assertEquals(3, randari.get());
+
+    // Rularea 2 a fost cel mai putin recent folosita.
+    cache.obtine(cheie(1, "csv"), () -> randeaza(randari, 10)).join();
+    assertEquals(3, randari.get());
+    cache.obtine(cheie(2, "csv"), () -> randeaza(randari, 10)).join();
+    assertEquals(4, randari.get());
+  }
+
+  @Test
+  void coadaPlinaRefuzaRandareaSiNuPastreazaCheia() throws Exception {
+    cache = new CacheRapoarte(1024, 1, 1);
+    CountDownLatch blocat = new CountDownLatch(1);
+    CompletableFuture<byte[]> inCurs = cache.obtine(cheie(1, "pdf"), () -> {
+      try {
+        blocat.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return new byte[1];
+    });
+    cache.obtine(cheie(2, "pdf"), () -> new byte[2]);
+
+    assertThrows(RejectedExecutionException.class,
+        () -> cache.obtine(cheie(3, "pdf"), () -> new byte[3]));
+
+    blocat.countDown();
+    inCurs.join();
+    assertArrayEquals(new byte[3], cache.obtine(cheie(3, "pdf"), () -> new byte[3]).join());
+  }
+
+  @Test
+  void etagDepindeDeRulareFormatSiInterval() {
+    assertEquals("\"r7-csv.gz--\"", cheie(7, "csv.gz").etag());
+    assertEquals("\"r7-pdf-2025-07-01-2025-07-31\"", new CacheRapoarte.Cheie(7, "pdf",
+        LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)).etag());
+  }
+
+  @Test
+  void etagRulariiNesalvateContineMomentulPornirii() {
+    String etag = cheie(-1, "csv.gz").etag();
+
+    assertTrue(etag.matches("\"m[0-9a-z]+-1-csv\\.gz--\""), etag);
+  }
+
+  private static CacheRapoarte.Cheie cheie(long rulare, String format) {
+    return new CacheRapoarte.Cheie(rulare, format, null, null);
+  }
+
+  private static byte[] randeaza(AtomicInteger randari, int dimensiune) {
+    randari.incrementAndGet();
+    return new byte[dimensiune];
+  }
+}
@@ -0,0 +1,86 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Verifica citirea o singura data pana la invalidare, metricile si catalogul imutabil.
+ */
+class CatalogReferintaTests {
+
+  private ProgramStudiuRepository programe;
+  private FacultateRepository facultati;
+  private MeterRegistry registry;
+  private CatalogReferinta catalog;
+
+  @BeforeEach
+  void setUp() {
+    programe = mock(ProgramStudiuRepository.class);
+    facultati = mock(FacultateRepository.class);
+    registry = new SimpleMeterRegistry();
+    when(facultati.findAll(Sort.by("id"))).thenReturn(List.of(facultate(1L, "Litere")));
+    when(programe.findAllWithFacultate()).thenReturn(
+        List.of(program(10L, 40)),
+        List.of(program(10L, 45)));
+    catalog = new CatalogReferinta(programe, facultati, registry,
+        mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void catalogulEsteCititOSinguraDataPanaLaInvalidare() {
+    CatalogReferinta.Catalog primul = catalog.catalog();
+    assertSame(primul, catalog.catalog());
+    assertEquals(40, primul.program(10L).locuriBuget());
+    assertEquals("Litere", primul.facultati().get(1L));
+
+    catalog.invalideaza();
+    CatalogReferinta.Catalog alDoilea = catalog.catalog();
+
+    assertEquals(45, alDoilea.program(10L).locuriBuget());
+    assertEquals(40, primul.program(10L).locuriBuget());
+    verify(programe, times(2)).findAllWithFacultate();
+    assertEquals(1.0, registry.get("admitere.catalog.cereri").tag("rezultat", "hit")
+        .counter().count());
+    assertEquals(2.0, registry.get("admitere.catalog.cereri").tag("rezultat", "miss")
+        .counter().count());
+    assertEquals(1.0, registry.get("admitere.catalog.invalidari").counter().count());
+  }
+
+  @Test
+  void catalogulNuPoateFiModificat() {
+    CatalogReferinta.Catalog curent = catalog.catalog();
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> curent.programe().add(program(11L, 10)));
+    assertThrows(UnsupportedOperationException.class,
+        () -> curent.facultati().put(2L, "Drept"));
+  }
+
+  private static Facultate facultate(Long id, String nume) {
+    Facultate facultate = new Facultate();
+    facultate.setId(id);
+    facultate.setNume(nume);
+    return facultate;
+  }
+
+  private static ProgramStudiuResponse program(Long id, int locuriBuget) {
+    return new ProgramStudiuResponse(id, 1L, "Litere", "Program " + id, locuriBuget, 10);
+  }
+}
@@ -0,0 +1,109 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Proprietati ale cheilor de clasament, verificate pe liste generate aleator (cu medii si
+ * date lipsa si multe valori egale): ordinea cheilor coincide cu
+ * {@link ProcesareAdmitereService#compareDosare} pe orice pereche, iar sortarea da aceeasi
+ * lista ca sortarea cu comparatorul.
+ */
+class CheiClasamentTests {
+
+  private static final OffsetDateTime START = OffsetDateTime.of(2025, 7, 1, 8, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  @Test
+  void ordineaCheilorCoincideCuComparatorulPeOricePereche() {
+    Random random = new Random(2025);
+    for (int incercare = 0; incercare < 300; incercare++) {
+      List<IntrareClasament> intrari = intrariAleatoare(random, 1 + random.nextInt(120),
+          ZoneOffset.UTC);
+      long[] chei = CheiClasament.chei(intrari);
+      assertNotNull(chei, "incercarea " + incercare);
+      for (int i = 0; i < intrari.size(); i++) {
+        for (int j = 0; j < intrari.size(); j++) {
+          assertEquals(
+              Integer.signum(ProcesareAdmitereService.compareDosare(intrari.get(i),
+                  intrari.get(j))),
+              Long.signum(Long.compare(chei[i], chei[j])),
+              "incercarea " + incercare + ", perechea " + i + "," + j);
+        }
+      }
+    }
+  }
+
+  @Test
+  void sortareaDupaCheiEsteIdenticaCuSortareaCuComparatorul() {
+    Random random = new Random(17);
+    for (int incercare = 0; incercare < 100; incercare++) {
+      int n = random.nextInt(5_000);
+      // Offset-uri amestecate in unele incercari, ca sa fie acoperita si varianta cu comparator.
+      ZoneOffset offset = incercare % 10 == 0 ? null : ZoneOffset.ofHours(random.nextInt(5));
+      List<IntrareClasament> intrari = intrariAleatoare(random, n, offset);
+      List<IntrareClasament> asteptate = new ArrayList<>(intrari);
+      asteptate.sort(ProcesareAdmitereService::compareDosare);
+      assertEquals(asteptate, CheiClasament.sorteaza(intrari), "incercarea " + incercare);
+    }
+  }
+
+  @Test
+  void offseturiDiferiteSauIdDuplicatFolosescComparatorul() {
+    IntrareClasament utc = intrare(1L, BigDecimal.TEN, START);
+    IntrareClasament plusDoi = intrare(2L, BigDecimal.TEN,
+        START.withOffsetSameInstant(ZoneOffset.ofHours(2)));
+    assertNull(CheiClasament.chei(List.of(utc, plusDoi)));
+    assertEquals(List.of(utc, plusDoi), CheiClasament.sorteaza(List.of(plusDoi, utc)));
+
+    IntrareClasament duplicat = intrare(1L, BigDecimal.ONE, START);
+    assertNull(CheiClasament.chei(List.of(utc, duplicat)));
+  }
+
+  private static List<IntrareClasament> intrariAleatoare(Random random, int n,
+      ZoneOffset offset) {
+    List<Long> ids = new ArrayList<>();
+    for (long id = 1; id <= n; id++) {
+      ids.add(id * (1 + random.nextInt(1_000)) + random.nextInt(1_000_000));
+    }
+    // Id-urile trebuie sa fie unice; coliziunile rare sunt inlocuite.
+    List<Long> unice = new ArrayList<>(new LinkedHashSet<>(ids));
+    while (unice.size() < n) {
+      unice.add(Long.MAX_VALUE - unice.size());
+    }
+    Collections.shuffle(unice, random);
+
+    List<IntrareClasament> intrari = new ArrayList<>(n);
+    for (int i = 0; i < n; i++) {
+      // Putine valori distincte, ca egalitatile sa fie frecvente.
+      BigDecimal medie = random.nextInt(8) == 0
+          ? null
+          : BigDecimal.valueOf(900 + random.nextInt(40), 2);
+      OffsetDateTime createdAt = null;
+      if (random.nextInt(8) != 0) {
+        ZoneOffset zona = offset != null ? offset : ZoneOffset.ofHours(random.nextInt(3));
+        createdAt = START.plusSeconds(random.nextInt(30))
+            .plusNanos(random.nextInt(3) * 1_000L)
+            .withOffsetSameInstant(zona);
+      }
+      intrari.add(intrare(unice.get(i), medie, createdAt));
+    }
+    return intrari;
+  }
+
+  private static IntrareClasament intrare(Long id, BigDecimal medie, OffsetDateTime createdAt) {
+    return new IntrareClasament(id, id, "Nume", "Prenume", medie, createdAt, new long[0],
+        new int[0]);
+  }
+}
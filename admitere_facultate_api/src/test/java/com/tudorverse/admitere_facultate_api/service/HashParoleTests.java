@@ -0,0 +1,110 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.tudorverse.admitere_facultate_api.controller.AdminManagementController;
+import com.tudorverse.admitere_facultate_api.error.ApiExceptionHandler;
+import com.tudorverse.admitere_facultate_api.repository.AdminRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Verifica respingerea imediata cu coada plina (503 pentru client), hash-uirea in paralel a
+ * unui lot si metricile pool-ului.
+ */
+class HashParoleTests {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void coadaPlinaRespingeImediatCu503() throws Exception {
+    CountDownLatch pornit = new CountDownLatch(1);
+    CountDownLatch elibereaza = new CountDownLatch(1);
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    when(encoder.encode(anyString())).thenAnswer(invocation -> {
+      pornit.countDown();
+      elibereaza.await();
+      return "hash";
+    });
+    HashParole hashParole = new HashParole(encoder, registry, 1, 1);
+    CompletableFuture<String> primul = CompletableFuture.supplyAsync(
+        () -> hashParole.encode("a"));
+    assertTrue(pornit.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> alDoilea = CompletableFuture.supplyAsync(
+        () -> hashParole.encode("b"));
+    while (registry.get("admitere.parole.coada").gauge().value() < 1) {
+      Thread.onSpinWait();
+    }
+
+    assertThrows(RejectedExecutionException.class, () -> hashParole.encode("c"));
+    MockMvc mvc = MockMvcBuilders.standaloneSetup(
+            new AdminManagementController(mock(AdminRepository.class), hashParole))
+        .setControllerAdvice(new ApiExceptionHandler())
+        .build();
+    mvc.perform(post("/api/admin/admini")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"admin@x.ro\",\"parola\":\"secret\"}"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+    elibereaza.countDown();
+    assertEquals("hash", primul.get(5, TimeUnit.SECONDS));
+    assertEquals("hash", alDoilea.get(5, TimeUnit.SECONDS));
+    assertEquals(2.0, registry.get("admitere.parole.respinse").counter().count());
+    assertEquals(2, registry.get("admitere.parole.hash").tag("operatie", "encode")
+        .timer().count());
+  }
+
+  @Test
+  void lotulEsteHashuitInParalelSiInOrdine() {
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxim = new AtomicInteger();
+    PasswordEncoder encoder = mock(PasswordEncoder.class);
+    when(encoder.encode(anyString())).thenAnswer(invocation -> {
+      maxim.accumulateAndGet(active.incrementAndGet(), Math::max);
+      Thread.sleep(20);
+      active.decrementAndGet();
+      return "hash:" + invocation.getArgument(0);
+    });
+    // Coada de un singur loc ajunge: lotul tine in pool cel mult un hash pe fir.
+    HashParole hashParole = new HashParole(encoder, registry, 4, 1);
+    List<String> parole = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      parole.add(i == 5 ? null : "p" + i);
+    }
+
+    List<String> hashuri = hashParole.encodeToate(parole);
+
+    List<String> asteptate = new ArrayList<>(Arrays.asList(new String[12]));
+    for (int i = 0; i < 12; i++) {
+      asteptate.set(i, i == 5 ? null : "hash:p" + i);
+    }
+    assertEquals(asteptate, hashuri);
+    assertTrue(maxim.get() > 1 && maxim.get() <= 4, "fire simultane: " + maxim.get());
+    assertEquals(11, registry.get("admitere.parole.hash").tag("operatie", "encode")
+        .timer().count());
+    assertEquals(0.0, registry.get("admitere.parole.respinse").counter().count());
+  }
+}
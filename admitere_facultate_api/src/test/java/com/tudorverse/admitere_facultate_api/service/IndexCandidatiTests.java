@@ -0,0 +1,103 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.tudorverse.admitere_facultate_api.model.Candidat;
+import com.tudorverse.admitere_facultate_api.repository.ParcurgereRepository;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica potrivirea fara diacritice, ordinea relevantei, paginarea dupa cursor si
+ * actualizarile aplicate in timpul si dupa incarcare.
+ */
+class IndexCandidatiTests {
+
+  private final List<Candidat> tabela = List.of(
+      candidat(1L, "Popescu", "Ion", "ion.popescu@example.com"),
+      candidat(2L, "Ionescu", "Maria", "maria@example.com"),
+      candidat(3L, "Ștefănescu", "Ioana", "ioana.s@example.com"),
+      candidat(4L, "Ion", "Andrei", "andrei.ion@example.com"),
+      candidat(5L, "Marinescu", "Ion", "mion@example.com"));
+
+  @Test
+  void potrivesteFaraDiacriticeSiOrdoneazaDupaRelevanta() {
+    IndexCandidati index = incarcat(tabela);
+
+    assertArrayEquals(new long[] {3}, index.cauta("stefan", null, null, 0, 10));
+    // Egal (4), apoi prefix (2); in email, inceputul unui cuvant (4) inaintea continutului.
+    assertArrayEquals(new long[] {4, 2}, index.cauta("ion", null, null, 0, 10));
+    assertArrayEquals(new long[] {1, 4, 5}, index.cauta(null, null, "ion", 0, 10));
+    assertArrayEquals(new long[] {1, 5}, index.cauta(null, "ion", null, 0, 10));
+    assertArrayEquals(new long[] {5}, index.cauta("escu", "io", "mion", 0, 10));
+  }
+
+  @Test
+  void paginaContinuaDupaCursorInOrdineaRelevantei() {
+    IndexCandidati index = incarcat(tabela);
+
+    assertArrayEquals(new long[] {1, 4}, index.cauta(null, null, "ion", 0, 2));
+    assertArrayEquals(new long[] {5}, index.cauta(null, null, "ion", 4, 2));
+    assertArrayEquals(new long[] {1, 2, 3, 5}, index.cauta("escu", null, null, 0, 10));
+    assertArrayEquals(new long[] {3, 5}, index.cauta("escu", null, null, 2, 10));
+    // Termenii scurti sunt verificati pe toti candidatii.
+    assertArrayEquals(new long[] {4, 2, 3}, index.cauta(null, "a", null, 0, 10));
+  }
+
+  @Test
+  void scrierileActualizeazaIndexul() {
+    IndexCandidati index = incarcat(tabela);
+
+    index.actualizat(candidat(2L, "Radu", "Maria", "maria@example.com"));
+    index.sters(4L);
+    index.actualizat(candidat(6L, "Ionita", "Elena", "elena@example.com"));
+
+    assertArrayEquals(new long[] {6}, index.cauta("ion", null, null, 0, 10));
+    assertArrayEquals(new long[] {2}, index.cauta("radu", null, null, 0, 10));
+  }
+
+  @Test
+  void scrierileDinTimpulIncarcariiSuntAplicateLaFinal() {
+    ParcurgereRepository repository = mock(ParcurgereRepository.class);
+    IndexCandidati index = new IndexCandidati(repository);
+    doAnswer(invocation -> {
+      Consumer<Candidat> consumer = invocation.getArgument(0);
+      consumer.accept(tabela.get(0));
+      assertNull(index.cauta("popescu", null, null, 0, 10));
+      index.sters(1L);
+      consumer.accept(tabela.get(1));
+      return null;
+    }).when(repository).parcurgeCandidati(any());
+
+    index.incarca();
+
+    assertArrayEquals(new long[0], index.cauta("popescu", null, null, 0, 10));
+    assertArrayEquals(new long[] {2}, index.cauta("ionescu", null, null, 0, 10));
+  }
+
+  private static IndexCandidati incarcat(List<Candidat> candidati) {
+    ParcurgereRepository repository = mock(ParcurgereRepository.class);
+    doAnswer(invocation -> {
+      Consumer<Candidat> consumer = invocation.getArgument(0);
+      candidati.forEach(consumer);
+      return null;
+    }).when(repository).parcurgeCandidati(any());
+    IndexCandidati index = new IndexCandidati(repository);
+    index.incarca();
+    return index;
+  }
+
+  private static Candidat candidat(Long id, String nume, String prenume, String email) {
+    Candidat candidat = new Candidat();
+    candidat.setId(id);
+    candidat.setNume(nume);
+    candidat.setPrenume(prenume);
+    candidat.setEmail(email);
+    return candidat;
+  }
+}
@@ -0,0 +1,60 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica filtrarea rezultatelor dupa data prin index fata de o parcurgere directa.
+ */
+class IndexDataRezultateTests {
+
+  private static final LocalDate PRIMA_ZI = LocalDate.of(2025, 7, 1);
+
+  @Test
+  void intervaleleCoincidCuFiltrareaDirecta() {
+    Random random = new Random(9);
+    List<RezultatAdmitereResponse> rezultate = new ArrayList<>();
+    for (long id = 1; id <= 1_000; id++) {
+      // Offset-ul diferit muta unele momente in alta zi locala decat in UTC.
+      OffsetDateTime createdAt = random.nextInt(25) == 0 ? null
+          : PRIMA_ZI.plusDays(random.nextInt(15)).atTime(random.nextInt(24), 30)
+              .atOffset(ZoneOffset.ofHours(random.nextInt(5) - 2));
+      rezultate.add(new RezultatAdmitereResponse(id, id, "Nume", "Prenume", BigDecimal.TEN,
+          createdAt, null, "RESPINS", null, null, null));
+    }
+    IndexDataRezultate index = new IndexDataRezultate(rezultate);
+    assertSame(index.rezultate(), index.intre(null, null));
+
+    for (int k = 0; k < 200; k++) {
+      LocalDate start = random.nextInt(4) == 0 ? null : PRIMA_ZI.plusDays(random.nextInt(18) - 2);
+      LocalDate end = random.nextInt(4) == 0 ? null : PRIMA_ZI.plusDays(random.nextInt(18) - 2);
+      if (start == null && end == null) {
+        continue;
+      }
+      List<RezultatAdmitereResponse> asteptate = new ArrayList<>();
+      for (RezultatAdmitereResponse rezultat : rezultate) {
+        if (rezultat.createdAt() == null) {
+          continue;
+        }
+        LocalDate data = rezultat.createdAt().toLocalDate();
+        if ((start == null || !data.isBefore(start)) && (end == null || !data.isAfter(end))) {
+          asteptate.add(rezultat);
+        }
+      }
+      // Sortare stabila: in aceeasi zi ramane ordinea clasamentului.
+      asteptate.sort(Comparator.comparing(rezultat -> rezultat.createdAt().toLocalDate()));
+      assertEquals(asteptate, index.intre(start, end), start + " - " + end);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tudorverse.admitere_facultate_api.dto.SugestieResponse;
+import com.tudorverse.admitere_facultate_api.model.Facultate;
+import com.tudorverse.admitere_facultate_api.model.ProgramStudiu;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica prefixele pe nume si pe cuvinte, limita si actualizarile dupa scrieri.
+ */
+class IndexNumeTests {
+
+  private IndexNume index;
+
+  @BeforeEach
+  void setUp() {
+    FacultateRepository facultati = mock(FacultateRepository.class);
+    ProgramStudiuRepository programe = mock(ProgramStudiuRepository.class);
+    when(facultati.findAll()).thenReturn(List.of(
+        facultate(1L, "Facultatea de Informatică"),
+        facultate(2L, "Facultatea de Litere"),
+        facultate(3L, "Informatică Economică"),
+        facultate(4L, "Drept")));
+    when(programe.findAll()).thenReturn(List.of(program(10L, "Informatică aplicată")));
+    index = new IndexNume(facultati, programe);
+    index.incarca();
+  }
+
+  @Test
+  void inceputulNumeluiVineInainteaCuvintelor() {
+    assertEquals(List.of(3L, 1L), ids(index.facultati("INFO", 10)));
+    assertEquals(List.of(3L), ids(index.facultati("informatica e", 10)));
+    assertEquals(List.of(1L, 2L), ids(index.facultati("facultatea de", 10)));
+    assertEquals(List.of(3L), ids(index.facultati("econ", 10)));
+    assertEquals(List.of(), ids(index.facultati("matica", 10)));
+    assertEquals(List.of(10L), ids(index.programe("aplic", 10)));
+  }
+
+  @Test
+  void limitaSiPrefixulGol() {
+    assertEquals(List.of(4L, 1L), ids(index.facultati("", 2)));
+    assertEquals(List.of(3L), ids(index.facultati("info", 1)));
+    assertEquals("Informatică Economică", index.facultati("info", 1).get(0).nume());
+  }
+
+  @Test
+  void scrierileActualizeazaIndexul() {
+    index.facultateSalvata(facultate(5L, "Științe Politice"));
+    index.facultateSalvata(facultate(4L, "Drept și Științe Administrative"));
+    index.facultateStearsa(1L);
+
+    assertEquals(List.of(5L, 4L), ids(index.facultati("stiinte", 10)));
+    assertEquals(List.of(3L), ids(index.facultati("info", 10)));
+    assertEquals(List.of(), ids(index.facultati("drept si z", 10)));
+  }
+
+  private static List<Long> ids(List<SugestieResponse> sugestii) {
+    return sugestii.stream().map(SugestieResponse::id).toList();
+  }
+
+  private static Facultate facultate(Long id, String nume) {
+    Facultate facultate = new Facultate();
+    facultate.setId(id);
+    facultate.setNume(nume);
+    return facultate;
+  }
+
+  private static ProgramStudiu program(Long id, String nume) {
+    ProgramStudiu program = new ProgramStudiu();
+    program.setId(id);
+    program.setNume(nume);
+    return program;
+  }
+}
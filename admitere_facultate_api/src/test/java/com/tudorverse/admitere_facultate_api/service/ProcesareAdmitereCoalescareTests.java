@@ -0,0 +1,201 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProfilRulareResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportInscrieriProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.RulareAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.repository.CandidatRepository;
+import com.tudorverse.admitere_facultate_api.repository.ClasamentRepository;
+import com.tudorverse.admitere_facultate_api.repository.FacultateRepository;
+import com.tudorverse.admitere_facultate_api.repository.ProgramStudiuRepository;
+import com.tudorverse.admitere_facultate_api.repository.RulareAdmitereRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Verifica faptul ca declansarile concurente ale procesarii sunt coalescate, ca o rulare
+ * care nu poate fi salvata este totusi publicata in memorie, ca un job isi poate anula
+ * rularea partajata cu un apel sincron si ca inainte de prima rulare raportul listeaza
+ * programele catalogului.
+ */
+class ProcesareAdmitereCoalescareTests {
+
+  private final AtomicInteger incarcari = new AtomicInteger();
+  private final Semaphore incarcareInceputa = new Semaphore(0);
+  private final CountDownLatch elibereaza = new CountDownLatch(1);
+  private final ModificariAdmitere modificari = new ModificariAdmitere();
+  private final MetriciProcesare metrici = new MetriciProcesare(new SimpleMeterRegistry(), 5);
+  private ProgramStudiuRepository programStudiuRepository;
+  private CatalogReferinta catalog;
+  private RulareAdmitereRepository rulareAdmitereRepository;
+  private ExecutorService executor;
+  private ProcesareAdmitereService service;
+
+  @BeforeEach
+  void setUp() {
+    ClasamentRepository clasamentRepository = mock(ClasamentRepository.class);
+    doAnswer(invocation -> {
+      incarcari.incrementAndGet();
+      incarcareInceputa.release();
+      assertTrue(elibereaza.await(10, TimeUnit.SECONDS));
+      return null;
+    }).when(clasamentRepository).parcurgeDosareValidate(any());
+    programStudiuRepository = mock(ProgramStudiuRepository.class);
+    when(programStudiuRepository.findAllWithFacultate()).thenReturn(List.of());
+    rulareAdmitereRepository = mock(RulareAdmitereRepository.class);
+    AtomicInteger rulari = new AtomicInteger();
+    when(rulareAdmitereRepository.salveaza(anyLong(), anyBoolean(), anyInt(), any()))
+        .thenAnswer(invocation -> new RulareAdmitereResponse((long) rulari.incrementAndGet(),
+            OffsetDateTime.now(), invocation.getArgument(0), invocation.getArgument(1), 0, 0, 0));
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    catalog = new CatalogReferinta(programStudiuRepository,
+        mock(FacultateRepository.class), new SimpleMeterRegistry(), transactionManager);
+    service = new ProcesareAdmitereService(clasamentRepository, catalog,
+        mock(CandidatRepository.class), modificari, rulareAdmitereRepository, metrici,
+        transactionManager);
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void declansarileInTimpulRulariiPrimescAcelasiRezultat() throws Exception {
+    List<Future<ProcesareAdmitereResponse>> raspunsuri = new ArrayList<>();
+    raspunsuri.add(executor.submit(() -> service.proceseazaAdmitere()));
+    assertTrue(incarcareInceputa.tryAcquire(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 4; i++) {
+      raspunsuri.add(executor.submit(() -> service.proceseazaAdmitere()));
+    }
+    Thread.sleep(100);
+    elibereaza.countDown();
+
+    ProcesareAdmitereResponse primul = raspunsuri.get(0).get(10, TimeUnit.SECONDS);
+    for (Future<ProcesareAdmitereResponse> raspuns : raspunsuri) {
+      assertSame(primul, raspuns.get(10, TimeUnit.SECONDS));
+    }
+    assertEquals(1, incarcari.get());
+    verify(rulareAdmitereRepository).stergeVechi();
+
+    List<ProfilRulareResponse> profile = metrici.profileRecente();
+    assertEquals(1, profile.size());
+    assertEquals("FINALIZAT", profile.get(0).rezultat());
+    assertEquals(List.of(ProfilRulare.INCARCARE_DOSARE, ProfilRulare.SORTARE,
+            ProfilRulare.INCARCARE_PROGRAME, ProfilRulare.ALOCARE, ProfilRulare.MATERIALIZARE,
+            ProfilRulare.SALVARE),
+        List.copyOf(profile.get(0).fazeMs().keySet()));
+  }
+
+  @Test
+  void modificarileInTimpulRulariiProgrameazaOSinguraRulareUrmatoare() throws Exception {
+    Future<ProcesareAdmitereResponse> primul = executor.submit(
+        () -> service.proceseazaAdmitere());
+    assertTrue(incarcareInceputa.tryAcquire(10, TimeUnit.SECONDS));
+    modificari.dosarModificat(1L);
+    List<Future<ProcesareAdmitereResponse>> urmatoare = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      urmatoare.add(executor.submit(() -> service.proceseazaAdmitere()));
+    }
+    Thread.sleep(100);
+    elibereaza.countDown();
+
+    ProcesareAdmitereResponse rezultatPrim = primul.get(10, TimeUnit.SECONDS);
+    ProcesareAdmitereResponse rezultatUrmator = urmatoare.get(0).get(10, TimeUnit.SECONDS);
+    for (Future<ProcesareAdmitereResponse> raspuns : urmatoare) {
+      assertSame(rezultatUrmator, raspuns.get(10, TimeUnit.SECONDS));
+    }
+    assertTrue(rezultatPrim != rezultatUrmator);
+    assertEquals(2, incarcari.get());
+  }
+
+  @Test
+  void jobulAnuleazaRularePartajataCuUnApelSincron() throws Exception {
+    JobProcesare job = new JobProcesare("job", false, false);
+    Future<ProcesareAdmitereResponse> sincron = executor.submit(
+        () -> service.proceseazaAdmitere());
+    assertTrue(incarcareInceputa.tryAcquire(10, TimeUnit.SECONDS));
+    Future<ProcesareAdmitereResponse> asincron = executor.submit(
+        () -> service.proceseazaAdmitere(false, false, job));
+    Thread.sleep(100);
+    job.cereAnulare();
+    elibereaza.countDown();
+
+    for (Future<ProcesareAdmitereResponse> raspuns : List.of(sincron, asincron)) {
+      ExecutionException ex = assertThrows(ExecutionException.class,
+          () -> raspuns.get(10, TimeUnit.SECONDS));
+      assertInstanceOf(ProcesareAnulataException.class, ex.getCause());
+    }
+    assertEquals(1, incarcari.get());
+    assertTrue(service.getUltimaRulare().isEmpty());
+  }
+
+  @Test
+  void rulareaNesalvataEstePublicataInMemorie() {
+    when(rulareAdmitereRepository.salveaza(anyLong(), anyBoolean(), anyInt(), any()))
+        .thenThrow(new DataAccessResourceFailureException("relation rulare_admitere"));
+    elibereaza.countDown();
+
+    ProcesareAdmitereResponse primul = service.proceseazaAdmitere();
+    ProcesareAdmitereResponse alDoilea = service.proceseazaAdmitere();
+
+    assertEquals(-1L, primul.rulareId());
+    assertEquals(-2L, alDoilea.rulareId());
+    assertEquals(-2L, service.getRaport().rulareId());
+    assertEquals(-2L, service.gasesteRulare(-2L).orElseThrow().id());
+    assertEquals("FINALIZAT", metrici.profileRecente().get(0).rezultat());
+    verify(rulareAdmitereRepository, never()).stergeVechi();
+  }
+
+  @Test
+  void faraRulareRaportulListeazaProgrameleCatalogului() {
+    when(programStudiuRepository.findAllWithFacultate()).thenReturn(List.of(
+        new ProgramStudiuResponse(2L, 1L, "Litere", "Romana", 40, 10),
+        new ProgramStudiuResponse(1L, 1L, "Litere", "Engleza", 30, 5)));
+    catalog.invalideaza();
+
+    assertEquals(0L, service.getRaport().rulareId());
+    assertEquals(List.of(
+            new RaportInscrieriProgramResponse(1L, "Engleza", "Litere", 0),
+            new RaportInscrieriProgramResponse(2L, "Romana", "Litere", 0)),
+        service.getRaport().inscrieriProgram(null, null));
+
+    when(programStudiuRepository.findAllWithFacultate()).thenReturn(List.of(
+        new ProgramStudiuResponse(3L, 2L, "Drept", "Drept", 50, 0)));
+    catalog.invalideaza();
+    assertEquals(List.of(new RaportInscrieriProgramResponse(3L, "Drept", "Drept", 0)),
+        service.getRaport().inscrieriProgram(null, null));
+  }
+}
@@ -0,0 +1,58 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.tudorverse.admitere_facultate_api.GeneratorDateAdmitere;
+import com.tudorverse.admitere_facultate_api.controller.RapoarteController;
+import com.tudorverse.admitere_facultate_api.dto.ProcesareAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportFacultateResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Regresie pentru volume mari: peste limita de 32767 parametri JDBC ai PostgreSQL atat
+ * procesarea, cat si raportul pe facultati (care cauta optiunile respinsilor) trebuie sa mearga.
+ */
+@SpringBootTest
+@Transactional
+class ProcesareAdmitereVolumTests {
+
+  private static final int DOSARE = 100_000;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ProcesareAdmitereService procesareAdmitereService;
+  @Autowired
+  private RapoarteController rapoarteController;
+  @Autowired
+  private CatalogReferinta catalogReferinta;
+
+  // Generatorul scrie direct prin JDBC, ocolind invalidarea catalogului facuta de controllere;
+  // dupa test catalogul nu trebuie sa pastreze programele anulate prin rollback.
+  @AfterEach
+  void tearDown() {
+    catalogReferinta.invalideaza();
+  }
+
+  @Test
+  void proceseaza100kDosare() {
+    GeneratorDateAdmitere.genereaza(jdbcTemplate, "Regresie volum", 20, 100, DOSARE);
+    catalogReferinta.invalideaza();
+
+    ProcesareAdmitereResponse raspuns = procesareAdmitereService.proceseazaAdmitere();
+
+    RaportFacultateResponse raport = rapoarteController.raportRezultateFacultati(null, null)
+        .stream()
+        .filter(rand -> "Regresie volum".equals(rand.facultateNume()))
+        .findFirst()
+        .orElseThrow();
+    assertEquals(2_000, raport.admisi());
+    assertEquals(DOSARE - 2_000, raport.respinsi());
+    assertEquals(raspuns.dosareProcesate(), raspuns.dosareAdmise() + raspuns.dosareNealocate());
+  }
+}
@@ -0,0 +1,123 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportFacultateResponse;
+import com.tudorverse.admitere_facultate_api.dto.RaportInscrieriProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica rapoartele agregate pe zile fata de o parcurgere directa a rezultatelor.
+ */
+class RaportRulareTests {
+
+  private static final LocalDate PRIMA_ZI = LocalDate.of(2025, 7, 1);
+
+  @Test
+  void rapoartelePeIntervalCoincidCuParcurgereaRezultatelor() {
+    Random random = new Random(5);
+    List<ProgramStudiuResponse> catalog = new ArrayList<>();
+    for (long id = 1; id <= 8; id++) {
+      catalog.add(new ProgramStudiuResponse(id, id % 3, "Facultate " + (id % 3),
+          "Program " + id, 10, 5));
+    }
+    List<RezultatAdmitereResponse> rezultate = new ArrayList<>();
+    List<Long> primeOptiuni = new ArrayList<>();
+    for (long id = 1; id <= 500; id++) {
+      // Programul 9 nu este in catalog.
+      long programId = 1 + random.nextInt(9);
+      boolean admis = programId <= 8 && random.nextBoolean();
+      OffsetDateTime createdAt = random.nextInt(20) == 0 ? null
+          : PRIMA_ZI.plusDays(random.nextInt(10)).atTime(random.nextInt(24), 0)
+              .atOffset(ZoneOffset.UTC);
+      String facultate = programId <= 8 ? "Facultate " + (programId % 3) : null;
+      rezultate.add(new RezultatAdmitereResponse(id, id, "Nume", "Prenume",
+          BigDecimal.TEN, createdAt, 1, admis ? "ADMIS" : "RESPINS",
+          admis ? programId : null, admis ? "Program " + programId : null,
+          admis ? facultate : null));
+      primeOptiuni.add(admis ? null : programId);
+    }
+    RaportRulare raport = RaportRulare.construieste(rezultate, catalog, primeOptiuni::get);
+
+    List<LocalDate[]> intervale = new ArrayList<>();
+    intervale.add(new LocalDate[] {null, null});
+    intervale.add(new LocalDate[] {PRIMA_ZI.plusDays(3), null});
+    intervale.add(new LocalDate[] {null, PRIMA_ZI.plusDays(3)});
+    intervale.add(new LocalDate[] {PRIMA_ZI.minusDays(5), PRIMA_ZI.minusDays(1)});
+    intervale.add(new LocalDate[] {PRIMA_ZI.plusDays(6), PRIMA_ZI.plusDays(2)});
+    for (int k = 0; k < 50; k++) {
+      LocalDate start = PRIMA_ZI.plusDays(random.nextInt(12) - 1);
+      intervale.add(new LocalDate[] {start, start.plusDays(random.nextInt(5))});
+    }
+
+    for (LocalDate[] interval : intervale) {
+      List<RezultatAdmitereResponse> filtrate = filtreaza(rezultate, interval[0], interval[1]);
+      assertEquals(inscrieriAsteptate(filtrate, catalog),
+          raport.inscrieriProgram(interval[0], interval[1]));
+
+      List<RaportFacultateResponse> asteptat = new ArrayList<>();
+      if (!filtrate.isEmpty()) {
+        Map<String, int[]> facultati = new TreeMap<>();
+        for (ProgramStudiuResponse program : catalog) {
+          facultati.putIfAbsent(program.facultateNume(), new int[2]);
+        }
+        for (RezultatAdmitereResponse rezultat : filtrate) {
+          if ("ADMIS".equals(rezultat.status())) {
+            facultati.get(rezultat.facultateNume())[0]++;
+          } else {
+            long programId = primeOptiuni.get(rezultate.indexOf(rezultat));
+            if (programId <= 8) {
+              facultati.get("Facultate " + (programId % 3))[1]++;
+            }
+          }
+        }
+        facultati.forEach((nume, numar) ->
+            asteptat.add(new RaportFacultateResponse(nume, numar[0], numar[1])));
+      }
+      assertEquals(asteptat, raport.rezultateFacultati(interval[0], interval[1]));
+    }
+  }
+
+  private static List<RaportInscrieriProgramResponse> inscrieriAsteptate(
+      List<RezultatAdmitereResponse> rezultate, List<ProgramStudiuResponse> catalog) {
+    List<RaportInscrieriProgramResponse> raport = new ArrayList<>();
+    for (ProgramStudiuResponse program : catalog) {
+      int inscrisi = (int) rezultate.stream()
+          .filter(rezultat -> "ADMIS".equals(rezultat.status())
+              && program.id().equals(rezultat.programId()))
+          .count();
+      raport.add(new RaportInscrieriProgramResponse(program.id(), program.nume(),
+          program.facultateNume(), inscrisi));
+    }
+    raport.sort((left, right) -> {
+      int cmp = left.facultateNume().compareToIgnoreCase(right.facultateNume());
+      return cmp != 0 ? cmp : left.programNume().compareToIgnoreCase(right.programNume());
+    });
+    return raport;
+  }
+
+  private static List<RezultatAdmitereResponse> filtreaza(
+      List<RezultatAdmitereResponse> rezultate, LocalDate start, LocalDate end) {
+    if (start == null && end == null) {
+      return rezultate;
+    }
+    return rezultate.stream()
+        .filter(rezultat -> rezultat.createdAt() != null)
+        .filter(rezultat -> {
+          LocalDate data = rezultat.createdAt().toLocalDate();
+          return (start == null || !data.isBefore(start)) && (end == null || !data.isAfter(end));
+        })
+        .toList();
+  }
+}
@@ -0,0 +1,204 @@
+package com.tudorverse.admitere_facultate_api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tudorverse.admitere_facultate_api.dto.LocuriProgramRequest;
+import com.tudorverse.admitere_facultate_api.dto.OcupareProgramResponse;
+import com.tudorverse.admitere_facultate_api.dto.ProgramStudiuResponse;
+import com.tudorverse.admitere_facultate_api.dto.RezultatAdmitereResponse;
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriRequest;
+import com.tudorverse.admitere_facultate_api.dto.ScenariuLocuriResponse;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifica nucleul de alocare si faptul ca realocarea incrementala produce acelasi rezultat
+ * ca o rulare completa.
+ */
+class StareAlocareTests {
+
+  private static final OffsetDateTime START = OffsetDateTime.of(2025, 7, 1, 8, 0, 0, 0,
+      ZoneOffset.UTC);
+
+  @Test
+  void nucleulAlocaLaFelCaAlgoritmulCuHartiDeLocuri() {
+    Random random = new Random(7);
+    List<IntrareClasament> clasament = new ArrayList<>();
+    for (long id = 1; id <= 2_000; id++) {
+      clasament.add(intrareAleatoare(random, id));
+    }
+    clasament.sort(ProcesareAdmitereService::compareDosare);
+    List<ProgramStudiuResponse> programe = programeAleatoare(random);
+
+    StareAlocare stare = new StareAlocare(clasament, programe);
+    stare.realoca(0);
+    List<RezultatAdmitereResponse> rezultate = stare.rezultate();
+
+    Map<Long, Integer> locuri = new HashMap<>();
+    for (ProgramStudiuResponse program : programe) {
+      locuri.put(program.id(), program.locuriBuget() + program.locuriTaxa());
+    }
+    for (int i = 0; i < clasament.size(); i++) {
+      Long asteptat = null;
+      for (long programId : clasament.get(i).programIds()) {
+        Integer ramase = locuri.get(programId);
+        if (ramase != null && ramase > 0) {
+          locuri.put(programId, ramase - 1);
+          asteptat = programId;
+          break;
+        }
+      }
+      RezultatAdmitereResponse rezultat = rezultate.get(i);
+      assertEquals(asteptat != null ? "ADMIS" : "RESPINS", rezultat.status());
+      if (asteptat != null) {
+        assertEquals(asteptat, rezultat.programId());
+      }
+    }
+  }
+
+  @Test
+  void realocareIncrementalaEsteIdenticaCuRulareaCompleta() {
+    Random random = new Random(42);
+    Map<Long, IntrareClasament> dosare = new HashMap<>();
+    for (long id = 1; id <= 400; id++) {
+      dosare.put(id, intrareAleatoare(random, id));
+    }
+    List<ProgramStudiuResponse> programe = programeAleatoare(random);
+
+    StareAlocare incrementala = completa(dosare, programe);
+
+    for (int pas = 0; pas < 200; pas++) {
+      int start = incrementala.size();
+      int tip = random.nextInt(3);
+      if (tip == 0) {
+        long id = 1 + random.nextInt(450);
+        start = Math.min(start, incrementala.elimina(id));
+        dosare.remove(id);
+        if (random.nextBoolean()) {
+          IntrareClasament intrare = intrareAleatoare(random, id);
+          dosare.put(id, intrare);
+          start = Math.min(start, incrementala.insereaza(intrare));
+        }
+      } else if (tip == 1) {
+        programe = programeAleatoare(random);
+      }
+      start = Math.min(start, incrementala.actualizeazaPrograme(programe));
+      incrementala.realoca(start);
+
+      StareAlocare completa = completa(dosare, programe);
+      assertEquals(completa.rezultate(), incrementala.rezultate(), "pasul " + pas);
+      assertEquals(completa.ocuparePrograme(), incrementala.ocuparePrograme(), "pasul " + pas);
+    }
+  }
+
+  @Test
+  void realocareaPeBlocuriSeOpresteLaAnulare() {
+    Random random = new Random(3);
+    List<IntrareClasament> clasament = new ArrayList<>();
+    for (long id = 1; id <= 200_000; id++) {
+      clasament.add(intrareAleatoare(random, id));
+    }
+    clasament.sort(ProcesareAdmitereService::compareDosare);
+    StareAlocare stare = new StareAlocare(clasament, programeAleatoare(random));
+
+    JobProcesare job = new JobProcesare("test", false, false);
+    assertEquals(clasament.size(), stare.realoca(0, job));
+    assertEquals(clasament.size(), job.toResponse().procesate());
+
+    job.cereAnulare();
+    assertThrows(ProcesareAnulataException.class, () -> stare.realoca(0, job));
+  }
+
+  @Test
+  void simulareaPeInstantaneuCoincideCuAlocareaCompleta() {
+    Random random = new Random(11);
+    Map<Long, IntrareClasament> dosare = new HashMap<>();
+    for (long id = 1; id <= 1_000; id++) {
+      dosare.put(id, intrareAleatoare(random, id));
+    }
+    List<ProgramStudiuResponse> programe = programeAleatoare(random);
+    StareAlocare stare = completa(dosare, programe);
+    InstantaneuClasament instantaneu = stare.instantaneu();
+    assertEquals(stare.ocuparePrograme(),
+        instantaneu.simuleaza(new ScenariuLocuriRequest("curent", List.of())).programe());
+
+    List<LocuriProgramRequest> suprascrieri = new ArrayList<>();
+    List<ProgramStudiuResponse> programeScenariu = new ArrayList<>();
+    for (ProgramStudiuResponse program : programe) {
+      int buget = random.nextInt(60);
+      suprascrieri.add(new LocuriProgramRequest(program.id(), buget, null));
+      programeScenariu.add(new ProgramStudiuResponse(program.id(), program.facultateId(),
+          program.facultateNume(), program.nume(), buget, program.locuriTaxa()));
+    }
+    ScenariuLocuriResponse scenariu = instantaneu.simuleaza(
+        new ScenariuLocuriRequest("test", suprascrieri));
+
+    List<RezultatAdmitereResponse> asteptate = completa(dosare, programeScenariu).rezultate();
+    assertEquals(asteptate.stream().filter(r -> "ADMIS".equals(r.status())).count(),
+        scenariu.dosareAdmise());
+    for (OcupareProgramResponse ocupare : scenariu.programe()) {
+      int ultima = -1;
+      int ocupate = 0;
+      for (int i = 0; i < asteptate.size(); i++) {
+        if ("ADMIS".equals(asteptate.get(i).status())
+            && ocupare.programId().equals(asteptate.get(i).programId())) {
+          ultima = i;
+          ocupate++;
+        }
+      }
+      assertEquals(ocupate, ocupare.ocupate());
+      assertEquals(ultima < 0 ? null : ultima + 1, ocupare.pozitieUltimulAdmis());
+      assertEquals(ultima < 0 ? null : asteptate.get(ultima).medie(),
+          ocupare.medieUltimulAdmis());
+    }
+  }
+
+  private static StareAlocare completa(Map<Long, IntrareClasament> dosare,
+      List<ProgramStudiuResponse> programe) {
+    List<IntrareClasament> clasament = new ArrayList<>(dosare.values());
+    clasament.sort(ProcesareAdmitereService::compareDosare);
+    StareAlocare stare = new StareAlocare(clasament, programe);
+    stare.realoca(0);
+    return stare;
+  }
+
+  private static IntrareClasament intrareAleatoare(Random random, long id) {
+    // Programul 7 nu exista niciodata in catalog.
+    long[] programIds = LongStream.rangeClosed(1, 7).toArray();
+    for (int k = programIds.length - 1; k > 0; k--) {
+      int j = random.nextInt(k + 1);
+      long aux = programIds[k];
+      programIds[k] = programIds[j];
+      programIds[j] = aux;
+    }
+    int optiuni = random.nextInt(4);
+    int[] prioritati = IntStream.rangeClosed(1, optiuni).toArray();
+    BigDecimal medie = BigDecimal.valueOf(500 + random.nextInt(500), 2);
+    return new IntrareClasament(id, id, "Nume" + id, "Prenume" + id, medie,
+        START.plusMinutes(random.nextInt(50)), Arrays.copyOf(programIds, optiuni), prioritati);
+  }
+
+  private static List<ProgramStudiuResponse> programeAleatoare(Random random) {
+    List<ProgramStudiuResponse> programe = new ArrayList<>();
+    for (long id = 1; id <= 6; id++) {
+      // Programul 6 lipseste uneori, ca un program sters.
+      if (id == 6 && random.nextBoolean()) {
+        continue;
+      }
+      programe.add(new ProgramStudiuResponse(id, 1L, "Facultate", "Program " + id,
+          random.nextInt(40), random.nextInt(20)));
+    }
+    return programe;
+  }
+}